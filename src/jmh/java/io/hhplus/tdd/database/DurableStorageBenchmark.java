@@ -0,0 +1,178 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 디스크 저장소(write-ahead log + snapshot) 쓰기 처리량과 복구 시간
+ * - insertOrUpdate / insertHistory : 16 스레드 동시 저장 처리량. fsyncIntervalMillis 가 0 이면 호출마다 fsync(동시 호출은 묶임),
+ *   0 보다 크면 주기마다 한 번 fsync 한다.
+ * - recoverBalances : 잔액 log 레코드 records 건 복구. snapshot=true 면 사용자 수만큼의 snapshot + 마지막 10% 의 log tail 만 읽는다.
+ * - recoverHistory : 내역 log 레코드 records 건 복구 (내역은 log 전체가 저장소이므로 항상 전체를 읽는다)
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class DurableStorageBenchmark {
+
+    private static final int USERS = 1_000_000;
+
+    @State(Scope.Benchmark)
+    public static class WriteState {
+
+        @Param({"0", "2", "10"})
+        private int fsyncIntervalMillis;
+
+        private Path directory;
+        private DurableUserPointTable userPointTable;
+        private DurablePointHistoryRepository pointHistoryRepository;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("point-storage-bench");
+            PointStorageProperties properties = new PointStorageProperties(true, directory, Duration.ofMillis(fsyncIntervalMillis), Duration.ZERO, PointHistoryStorageFormat.WAL, 0);
+            userPointTable = new DurableUserPointTable(properties);
+            pointHistoryRepository = new DurablePointHistoryRepository(properties);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            userPointTable.close();
+            pointHistoryRepository.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+
+        @Param({"10000000"})
+        private int records;
+
+        @Param({"false", "true"})
+        private boolean snapshot;
+
+        private Path directory;
+        private PointStorageProperties properties;
+
+        /**
+         * records 건의 잔액/내역 log 를 만든다. (fsync 는 파일마다 마지막에 한 번)
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("point-storage-bench");
+            properties = new PointStorageProperties(true, directory, Duration.ZERO, Duration.ZERO, PointHistoryStorageFormat.WAL, 0);
+
+            if (snapshot) {
+                // 앞의 90% 는 snapshot(사용자별 마지막 잔액), 나머지 10% 는 1세대 log tail
+                try (WriteAheadLog snapshotFile = WriteAheadLog.open(DurableUserPointTable.snapshotFile(directory, 1), DurableUserPointTable.RECORD_SIZE, Duration.ZERO, record -> {
+                })) {
+                    for (long userId = 0; userId < USERS; userId++) {
+                        UserPoint userPoint = new UserPoint(userId, userId, 0, 0);
+                        snapshotFile.append(buffer -> DurableUserPointTable.write(buffer, userPoint));
+                    }
+                }
+                writeBalances(DurableUserPointTable.walFile(directory, 1), records / 10);
+            } else {
+                writeBalances(DurableUserPointTable.walFile(directory, 0), records);
+            }
+
+            try (WriteAheadLog history = WriteAheadLog.open(directory.resolve(DurablePointHistoryRepository.WAL_FILE), DurablePointHistoryRepository.RECORD_SIZE, Duration.ZERO, record -> {
+            })) {
+                for (long i = 1; i <= records; i++) {
+                    PointHistory pointHistory = new PointHistory(i, i % USERS, 1000L, TransactionType.CHARGE, i);
+                    history.append(buffer -> DurablePointHistoryRepository.write(buffer, pointHistory));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+
+        private void writeBalances(Path file, int count) throws IOException {
+            try (WriteAheadLog wal = WriteAheadLog.open(file, DurableUserPointTable.RECORD_SIZE, Duration.ZERO, record -> {
+            })) {
+                for (long i = 0; i < count; i++) {
+                    UserPoint userPoint = new UserPoint(i % USERS, i, i, 0);
+                    wal.append(buffer -> DurableUserPointTable.write(buffer, userPoint));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public UserPoint insertOrUpdate(WriteState state) {
+        long userId = ThreadLocalRandom.current().nextLong(USERS);
+        return state.userPointTable.insertOrUpdate(userId, userId, 0);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void insertHistory(WriteState state) {
+        long userId = ThreadLocalRandom.current().nextLong(USERS);
+        state.pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public UserPoint recoverBalances(RecoveryState state) throws IOException {
+        try (DurableUserPointTable table = new DurableUserPointTable(state.properties)) {
+            return table.selectById(0L);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public int recoverHistory(RecoveryState state) throws IOException {
+        try (DurablePointHistoryRepository repository = new DurablePointHistoryRepository(state.properties)) {
+            return repository.selectAllByUserId(0L).size();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 전체 내역 수가 늘어날 때 사용자 내역 조회 지연 비교
+ * - tableScan : PointHistoryTable.selectAllByUserId (전체 테이블 스캔, 전체 내역 수에 비례)
+ * - indexLookup : IndexedPointHistoryRepository.selectAllByUserId (사용자 인덱스, 전체 내역 수와 무관)
+ * - mappedLookup : MappedPointHistoryRepository.selectAllByUserId (mapped segment 의 next 컬럼을 따라 읽음, 내역은 heap 밖)
+ *
+ * 조회 대상 사용자의 내역은 항상 100건이고 전체 내역 수(totalRows)만 바뀐다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class PointHistoryRepositoryBenchmark {
+
+    private static final long TARGET_USER_ID = 0L;
+    private static final int TARGET_USER_ROWS = 100;
+    private static final int OTHER_USERS = 100_000;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int totalRows;
+
+    private PointHistoryTable pointHistoryTable;
+    private IndexedPointHistoryRepository pointHistoryRepository;
+    private Path mappedDirectory;
+    private MappedPointHistoryRepository mappedPointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pointHistoryTable = new UnthrottledPointHistoryTable();
+        pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+        mappedDirectory = Files.createTempDirectory("point-history-bench");
+        mappedPointHistoryRepository = new MappedPointHistoryRepository(new PointStorageProperties(
+                true, mappedDirectory, Duration.ZERO, Duration.ZERO, PointHistoryStorageFormat.MAPPED, 1 << 20));
+
+        // 대상 사용자의 내역 100건을 전체 내역 사이에 고르게 섞는다.
+        int interval = totalRows / TARGET_USER_ROWS;
+        for (int i = 0; i < totalRows; i++) {
+            long userId = i % interval == 0 ? TARGET_USER_ID : 1 + (i % OTHER_USERS);
+            pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, i);
+            mappedPointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        mappedPointHistoryRepository.close();
+        try (Stream<Path> files = Files.walk(mappedDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return pointHistoryTable.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> indexLookup() {
+        return pointHistoryRepository.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> mappedLookup() {
+        return mappedPointHistoryRepository.selectAllByUserId(TARGET_USER_ID);
+    }
+}
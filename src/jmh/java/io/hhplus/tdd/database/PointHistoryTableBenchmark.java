@@ -0,0 +1,53 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 테이블 동시 저장 비교: 전체 동기화(UnthrottledPointHistoryTable) vs segment append(ConcurrentPointHistoryTable)
+ * - 여러 스레드가 서로 다른 사용자의 내역을 동시에 저장한다.
+ * - 스레드 수를 바꿔 저장이 병렬로 늘어나는지 확인한다.
+ *   java -jar build/libs/*-jmh.jar PointHistoryTableBenchmark -t 1
+ *   java -jar build/libs/*-jmh.jar PointHistoryTableBenchmark -t 16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(8)
+public class PointHistoryTableBenchmark {
+
+    @Param({"SYNCHRONIZED", "CONCURRENT"})
+    private String table;
+
+    private PointHistoryTable pointHistoryTable;
+
+    // iteration 마다 새 테이블로 시작해 쌓인 내역 수가 측정에 영향을 주지 않게 한다.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        pointHistoryTable = "CONCURRENT".equals(table) ? new ConcurrentPointHistoryTable() : new UnthrottledPointHistoryTable();
+    }
+
+    @Benchmark
+    public PointHistory insert() {
+        return pointHistoryTable.insert(ThreadLocalRandom.current().nextLong(10_000), 1L, TransactionType.CHARGE, 0L);
+    }
+}
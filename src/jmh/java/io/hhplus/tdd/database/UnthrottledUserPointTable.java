@@ -0,0 +1,28 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 UserPointTable
+ * - 동작은 원본과 같지만 throttle(sleep)을 하지 않아 코드 자체의 비용만 측정한다.
+ * - 여러 사용자를 동시에 저장해도 안전하도록 ConcurrentHashMap 을 사용한다.
+ */
+public class UnthrottledUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount, long cost) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis(), cost);
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소 비교: Map 기반(UnthrottledUserPointTable) vs 기본형 배열 기반(PrimitiveUserPointTable)
+ * - 처리량: userCount 명 중 임의의 사용자를 조회/저장한다.
+ * - 메모리: setup 에서 userCount 명을 저장한 뒤 늘어난 heap 을 사용자 수로 나눠 출력한다. (retained bytes/user)
+ *   호출당 할당량은 -prof gc 로 함께 확인한다. (./gradlew jmh -Pjmh.profilers=gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserPointTableBenchmark {
+
+    @Param({"MAP", "PRIMITIVE"})
+    private String table;
+
+    @Param({"10000", "1000000"})
+    private int userCount;
+
+    private UserPointTable userPointTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        userPointTable = "PRIMITIVE".equals(table) ? new PrimitiveUserPointTable() : new UnthrottledUserPointTable();
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointTable.insertOrUpdate(userId, userId, 0);
+        }
+        long retained = usedHeap() - before;
+        System.out.printf("%n[%s] users=%d, retained bytes/user=%.1f%n", table, userCount, (double) retained / userCount);
+    }
+
+    @Benchmark
+    public UserPoint selectById() {
+        return userPointTable.selectById(ThreadLocalRandom.current().nextLong(userCount));
+    }
+
+    @Benchmark
+    public UserPoint insertOrUpdate() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount);
+        return userPointTable.insertOrUpdate(userId, userId, 0);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
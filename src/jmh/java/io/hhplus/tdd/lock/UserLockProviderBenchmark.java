@@ -0,0 +1,76 @@
+package io.hhplus.tdd.lock;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 사용자별 Lock 전략 비교
+ * - 처리량: 8 스레드가 userCount 명 중 임의의 사용자 Lock 을 잡았다 놓는다.
+ *   userCount 가 작을수록(hot user) 경합이 크다.
+ * - 메모리: iteration 종료 시 유지 중인 Lock 수(retainedLocks)를 보고한다. (스레드별 값이 합산되므로 / 8)
+ *   MAP 은 만난 사용자 수만큼, STRIPED 는 stripes 만큼, REF_COUNTED 는 사용 중인 수만큼 유지한다.
+ *   바이트 단위 할당량은 -prof gc 로 함께 확인한다. (./gradlew jmh -Pjmh.profilers=gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class UserLockProviderBenchmark {
+
+    @Param({"MAP", "STRIPED", "REF_COUNTED"})
+    private UserLockStrategy strategy;
+
+    @Param({"16", "1000000"})
+    private int userCount;
+
+    private UserLockProvider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = strategy.create(new UserLockProperties(strategy, 1024, false));
+    }
+
+    @Benchmark
+    public void lockUnlock(Footprint footprint) {
+        long userId = ThreadLocalRandom.current().nextLong(userCount);
+        Lock lock = provider.getLock(userId);
+        lock.lock();
+        try {
+            footprint.operations++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long operations;
+        public long retainedLocks;
+
+        @TearDown(Level.Iteration)
+        public void record(UserLockProviderBenchmark benchmark) {
+            retainedLocks = benchmark.provider.size();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.MapUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 주요 경로(charge, use, getUserPoint, getPointHistory) 처리량 기준선
+ * - distribution : 요청 대상 사용자 분포 (UNIFORM / ZIPF)
+ * - serviceMode : point.service.mode 와 같은 값 (locking / lock-free)
+ * - throttled : false 면 sleep 없는 테이블로 코드 자체의 비용을, true 면 원본 테이블로 실제 지연을 포함해 측정
+ *
+ * 스레드 수는 기본 8 이며 jmh jar 실행 시 -t 로 바꿔 비교한다.
+ *   java -jar build/libs/*-jmh.jar PointServiceBenchmark -t 1
+ *   java -jar build/libs/*-jmh.jar PointServiceBenchmark -t 32
+ * 원본 테이블은 동시 저장에 안전하지 않으므로 throttled=true 는 -t 1 로 측정한다.
+ *   java -jar build/libs/*-jmh.jar PointServiceBenchmark -p throttled=true -t 1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = 1_000_000_000L;
+    private static final int HISTORIES_PER_USER = 10;
+    private static final long USE_COST = 20_000L;
+
+    @Param({"UNIFORM", "ZIPF"})
+    private UserIdDistribution distribution;
+
+    @Param({"10000"})
+    private int userCount;
+
+    @Param({"locking", "lock-free"})
+    private String serviceMode;
+
+    @Param({"false"})
+    private boolean throttled;
+
+    private PointService pointService;
+    private UserIdDistribution.Sampler users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserPointTable userPointTable = throttled ? new UserPointTable() : new UnthrottledUserPointTable();
+        PointHistoryTable pointHistoryTable = throttled ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+        PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+
+        // 모든 사용자에게 충분한 잔액과 내역 10건을 미리 채운다. (throttled 모드는 준비 시간이 길어 잔액만 채움)
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointTable.insertOrUpdate(userId, INITIAL_POINT, 0);
+            if (!throttled) {
+                for (int i = 0; i < HISTORIES_PER_USER; i++) {
+                    pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, i);
+                }
+            }
+        }
+
+        pointService = switch (serviceMode) {
+            case "locking" -> new PointServiceImpl(userPointTable, pointHistoryRepository,
+                    new MapUserLockProvider(), new BoundedCache<>(userCount, Duration.ZERO), new PointMetrics(new SimpleMeterRegistry()));
+            case "lock-free" -> new LockFreePointServiceImpl(userPointTable, pointHistoryRepository);
+            default -> throw new IllegalArgumentException("unknown serviceMode: " + serviceMode);
+        };
+        users = distribution.sampler(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (pointService instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointService.charge(users.next(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        return pointService.use(users.next(), 1L, USE_COST);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(users.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> getPointHistory() {
+        return pointService.getPointHistory(users.next());
+    }
+}
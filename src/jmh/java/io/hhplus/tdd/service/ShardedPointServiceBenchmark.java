@@ -0,0 +1,107 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.MapUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sharded 모드의 shard 수에 따른 처리량
+ * - shard 마다 잔액 테이블(PrimitiveUserPointTable), 내역 저장소, 사용자별 Lock, 잔액 캐시를 따로 둔다.
+ * - shards=1 은 단일 PointServiceImpl 과 같은 구성이다.
+ * - 스레드 수를 shard 수 이상으로 두고 비교한다.
+ *   java -jar build/libs/*-jmh.jar ShardedPointServiceBenchmark -t 16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class ShardedPointServiceBenchmark {
+
+    private static final long INITIAL_POINT = 1_000_000_000L;
+    private static final long USE_COST = 20_000L;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int shards;
+
+    @Param({"UNIFORM", "ZIPF"})
+    private UserIdDistribution distribution;
+
+    @Param({"10000"})
+    private int userCount;
+
+    private ShardedPointServiceImpl pointService;
+    private UserIdDistribution.Sampler users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointShardRouter router = new PointShardRouter(shards);
+        List<UserPointTable> tables = new ArrayList<>(shards);
+        List<PointService> services = new ArrayList<>(shards);
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        for (int i = 0; i < shards; i++) {
+            UserPointTable userPointTable = new PrimitiveUserPointTable(userCount / shards);
+            tables.add(userPointTable);
+            services.add(new PointServiceImpl(
+                    userPointTable,
+                    new IndexedPointHistoryRepository(new UnthrottledPointHistoryTable()),
+                    new MapUserLockProvider(),
+                    new BoundedCache<>(userCount / shards + 1, Duration.ZERO),
+                    pointMetrics
+            ));
+        }
+        // 모든 사용자에게 충분한 잔액을 담당 shard 의 테이블에 미리 채운다.
+        for (long userId = 0; userId < userCount; userId++) {
+            tables.get(router.shardOf(userId)).insertOrUpdate(userId, INITIAL_POINT, 0);
+        }
+        pointService = new ShardedPointServiceImpl(services);
+        users = distribution.sampler(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pointService.close();
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointService.charge(users.next(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        return pointService.use(users.next(), 1L, USE_COST);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(users.next());
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청 대상 사용자를 고르는 분포
+ * - UNIFORM : 모든 사용자가 같은 확률
+ * - ZIPF : 순위 k 의 사용자가 1/k^0.99 에 비례하는 확률 (소수의 hot user 에 요청이 몰림)
+ */
+public enum UserIdDistribution {
+    UNIFORM,
+    ZIPF;
+
+    private static final double ZIPF_EXPONENT = 0.99;
+
+    /**
+     * userCount 명 중 한 명을 고르는 sampler 생성
+     */
+    public Sampler sampler(int userCount) {
+        if (this == UNIFORM) {
+            return () -> ThreadLocalRandom.current().nextLong(userCount);
+        }
+
+        // 누적 분포를 미리 계산해 두고 이분 탐색으로 고른다.
+        double[] cumulative = new double[userCount];
+        double sum = 0;
+        for (int rank = 0; rank < userCount; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        double total = sum;
+        return () -> {
+            int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble(total));
+            return index >= 0 ? index : Math.min(-index - 1, userCount - 1);
+        };
+    }
+
+    @FunctionalInterface
+    public interface Sampler {
+        long next();
+    }
+}
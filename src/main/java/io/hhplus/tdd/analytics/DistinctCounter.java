@@ -0,0 +1,57 @@
+package io.hhplus.tdd.analytics;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 사용자 수 추정용 HyperLogLog (register 1024개, 표준 오차 약 3.25%)
+ * - 사용자 ID 를 몇 번 더해도 추정치는 한 번 더한 것과 같다.
+ * - register 갱신은 CAS 로 최대값만 올리므로 여러 스레드가 락 없이 동시에 더할 수 있다.
+ */
+final class DistinctCounter {
+
+    private static final int PRECISION = 10;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicIntegerArray registers = new AtomicIntegerArray(REGISTERS);
+
+    void add(long userId) {
+        long hash = hash(userId);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 남은 비트에서 첫 1 의 위치 (끝에 1 을 붙여 최대값을 제한)
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        int current = registers.get(index);
+        while (rank > current && !registers.compareAndSet(index, current, rank)) {
+            current = registers.get(index);
+        }
+    }
+
+    long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            int register = registers.get(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // 작은 값은 linear counting 으로 보정
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    // 연속된 ID 도 고르게 퍼지도록 섞는다. (Murmur3 finalizer)
+    private static long hash(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.analytics;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 시간 bucket 하나의 포인트 내역 집계
+ * @param granularity bucket 단위
+ * @param type 트랜잭션 종류
+ * @param startMillis bucket 시작 시각 (포함, UTC epoch 기준 정렬)
+ * @param amount 금액 합계
+ * @param count 내역 수
+ * @param distinctUsers 사용자 수 추정치 (HyperLogLog, 표준 오차 약 3%)
+ */
+public record PointRollupBucket(
+        RollupGranularity granularity,
+        TransactionType type,
+        long startMillis,
+        long amount,
+        long count,
+        long distinctUsers
+) {
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.analytics;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 내역 시간대별 집계 (분/시간/일 bucket)
+ * - 내역이 저장될 때마다 단위별로 해당 시각의 bucket 에 금액 합계, 건수, 사용자 수 sketch(HyperLogLog)를 더한다.
+ *   bucket 은 (단위, 트랜잭션 종류) 별로 시작 시각 순서의 ConcurrentSkipListMap 에 두므로, 구간 조회는 원본 내역을 읽지 않고 bucket 만 읽는다.
+ * - bucket 갱신은 LongAdder 와 CAS 로 하므로 여러 사용자의 저장이 같은 bucket 에 동시에 더해져도 락이 없다.
+ * - 새 bucket 이 열릴 때 같은 단위에서 보관 기간(point.rollup.*-retention)이 지난 bucket 을 지운다.
+ *   분 단위 bucket 은 짧게, 일 단위 bucket 은 길게 두어 오래된 구간은 큰 단위로만 조회된다.
+ * - bucket 경계는 UTC epoch 기준이다.
+ */
+public class PointRollupEngine {
+
+    private final EnumMap<RollupGranularity, Long> retentionMillis = new EnumMap<>(RollupGranularity.class);
+
+    // 단위 -> 트랜잭션 종류 -> bucket 시작 시각 -> bucket (생성 후 바뀌지 않는 구조)
+    private final EnumMap<RollupGranularity, EnumMap<TransactionType, ConcurrentSkipListMap<Long, Bucket>>> buckets = new EnumMap<>(RollupGranularity.class);
+
+    public PointRollupEngine(PointRollupProperties properties) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            retentionMillis.put(granularity, properties.retention(granularity).toMillis());
+            EnumMap<TransactionType, ConcurrentSkipListMap<Long, Bucket>> byType = new EnumMap<>(TransactionType.class);
+            for (TransactionType type : TransactionType.values()) {
+                byType.put(type, new ConcurrentSkipListMap<>());
+            }
+            buckets.put(granularity, byType);
+        }
+    }
+
+    /**
+     * 내역 한 건을 집계에 더한다.
+     */
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        recordAll(userId, type, amount, 1, updateMillis);
+    }
+
+    /**
+     * 같은 사용자/종류/시각의 내역 여러 건(금액 합계 amount, count 건)을 집계에 더한다.
+     */
+    public void recordAll(long userId, TransactionType type, long amount, long count, long updateMillis) {
+        if (count == 0) {
+            return;
+        }
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Bucket bucket = bucket(granularity, type, granularity.bucketStart(updateMillis));
+            if (bucket != null) {
+                bucket.amount.add(amount);
+                bucket.count.add(count);
+                bucket.users.add(userId);
+            }
+        }
+    }
+
+    /**
+     * [fromMillis, toMillis) 구간의 bucket 을 시작 시각 순서로 조회한다.
+     * - fromMillis 가 속한 bucket 부터 포함한다.
+     * - 보관 기간이 지나 지워진 bucket 은 나오지 않으므로 오래된 구간은 큰 단위로 조회한다.
+     * @param granularity bucket 단위
+     * @param type 트랜잭션 종류 (null 이면 CHARGE, USE 모두)
+     * @param fromMillis 조회 시작 시각 (포함)
+     * @param toMillis 조회 종료 시각 (미포함)
+     * @return
+     */
+    public List<PointRollupBucket> query(RollupGranularity granularity, TransactionType type, long fromMillis, long toMillis) {
+        List<PointRollupBucket> result = new ArrayList<>();
+        long from = granularity.bucketStart(fromMillis);
+        if (from >= toMillis) {
+            return result;
+        }
+        for (TransactionType bucketType : type == null ? TransactionType.values() : new TransactionType[]{type}) {
+            for (Map.Entry<Long, Bucket> entry : buckets.get(granularity).get(bucketType).subMap(from, true, toMillis, false).entrySet()) {
+                Bucket bucket = entry.getValue();
+                result.add(new PointRollupBucket(granularity, bucketType, entry.getKey(),
+                        bucket.amount.sum(), bucket.count.sum(), bucket.users.estimate()));
+            }
+        }
+        result.sort(Comparator.comparingLong(PointRollupBucket::startMillis).thenComparing(PointRollupBucket::type));
+        return result;
+    }
+
+    /**
+     * 보관 중인 bucket 수 (단위별, 종류 합계)
+     */
+    public int size(RollupGranularity granularity) {
+        int size = 0;
+        for (ConcurrentSkipListMap<Long, Bucket> byStart : buckets.get(granularity).values()) {
+            size += byStart.size();
+        }
+        return size;
+    }
+
+    /**
+     * bucket 을 찾고, 없으면 만든다. (보관 기간이 지난 시각이면 null)
+     * - 새 bucket 을 만든 스레드가 가장 최근 bucket 기준으로 보관 기간이 지난 bucket 을 지운다.
+     */
+    private Bucket bucket(RollupGranularity granularity, TransactionType type, long start) {
+        ConcurrentSkipListMap<Long, Bucket> byStart = buckets.get(granularity).get(type);
+        Bucket bucket = byStart.get(start);
+        if (bucket != null) {
+            return bucket;
+        }
+        long retention = retentionMillis.get(granularity);
+        Map.Entry<Long, Bucket> newest = byStart.lastEntry();
+        if (newest != null && start < newest.getKey() - retention) {
+            return null;
+        }
+        Bucket created = new Bucket();
+        bucket = byStart.putIfAbsent(start, created);
+        if (bucket != null) {
+            return bucket;
+        }
+        byStart.headMap(byStart.lastKey() - retention).clear();
+        return created;
+    }
+
+    private static final class Bucket {
+        private final LongAdder amount = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final DistinctCounter users = new DistinctCounter();
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 시간대별 집계 설정 (point.rollup.*)
+ * - 단위별 보관 기간이 지난 bucket 은 같은 단위의 새 bucket 이 열릴 때 지운다. (분 단위는 짧게, 일 단위는 길게)
+ * @param minuteRetention 분 단위 bucket 보관 기간
+ * @param hourRetention 시간 단위 bucket 보관 기간
+ * @param dayRetention 일 단위 bucket 보관 기간
+ */
+@ConfigurationProperties(prefix = "point.rollup")
+public record PointRollupProperties(
+        @DefaultValue("2h") Duration minuteRetention,
+        @DefaultValue("7d") Duration hourRetention,
+        @DefaultValue("400d") Duration dayRetention
+) {
+
+    public Duration retention(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> minuteRetention;
+            case HOUR -> hourRetention;
+            case DAY -> dayRetention;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.analytics;
+
+import java.time.Duration;
+
+/**
+ * 집계 bucket 단위 (UTC epoch 기준으로 정렬)
+ */
+public enum RollupGranularity {
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private final long millis;
+
+    RollupGranularity(Duration duration) {
+        this.millis = duration.toMillis();
+    }
+
+    public long millis() {
+        return millis;
+    }
+
+    /**
+     * 시각이 속한 bucket 의 시작 시각
+     */
+    public long bucketStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, millis) * millis;
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 LRU 캐시
+ * - 키 해시로 나눈 segment 마다 access-order LinkedHashMap 을 두어 Lock 경합을 줄인다.
+ * - segment 가 가득 차면 가장 오래 사용하지 않은 항목을 제거한다.
+ * - ttl 이 0 보다 크면 저장 후 ttl 이 지난 항목은 없는 것으로 본다.
+ * - maxSize 가 0 이하이면 아무것도 저장하지 않는다. (캐시 비활성화)
+ * - segment 마다 쓰기 버전을 두어, 읽기를 시작한 뒤 같은 segment 에 put/invalidate 가 있었으면 읽은 값을 저장하지 않는다.
+ *   (쓴 값이 LRU/ttl 로 먼저 제거되어도 그 전에 읽기 시작한 이전 값이 다시 저장되지 않는다)
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    private final long ttlNanos;
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(long maxSize, Duration ttl) {
+        this.enabled = maxSize > 0;
+        int segmentCount = maxSize >= MAX_SEGMENTS ? MAX_SEGMENTS : 1;
+        int segmentCapacity = (int) Math.max(1, (maxSize + segmentCount - 1) / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+        this.mask = segmentCount - 1;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+    }
+
+    /**
+     * 캐시 조회
+     * @return 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        V value = enabled ? segmentFor(key).get(key, ttlNanos) : null;
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어 저장한다. (read-through)
+     * - loader 는 segment Lock 밖에서 호출한다.
+     * - 읽는 동안 put 으로 더 최신 값이 저장되었으면 읽은 값을 버리고 저장된 값을 반환한다.
+     * - 읽는 동안 같은 segment 에 쓰기가 있었으면 (그 값이 이미 제거되었더라도) 읽은 값을 반환만 하고 저장하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return getVersioned(key, (k, version) -> loader.apply(k));
+    }
+
+    /**
+     * get(key, loader) 와 같지만 loader 에 읽기 시작 시점의 쓰기 버전을 넘긴다.
+     * - 여러 호출의 읽기를 하나로 합칠 때(single-flight) 버전을 키에 포함하면,
+     *   쓰기 이후에 시작한 호출이 쓰기 이전에 시작된 읽기에 합쳐져 이전 값을 저장하는 일이 없다.
+     */
+    public V getVersioned(K key, BiFunction<? super K, Long, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        long version = segment.version();
+        V loaded = loader.apply(key, version);
+        if (!enabled || loaded == null) {
+            return loaded;
+        }
+        return segment.putIfAbsent(key, loaded, ttlNanos, version);
+    }
+
+    /**
+     * 캐시 저장 (write-through)
+     */
+    public void put(K key, V value) {
+        if (enabled) {
+            segmentFor(key).put(key, value);
+        }
+    }
+
+    public void invalidate(K key) {
+        if (enabled) {
+            segmentFor(key).remove(key);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * 캐시 지표
+     * @param hits 적중 수
+     * @param misses 미적중 수 (만료 포함)
+     * @param evictions 크기 초과로 제거된 수
+     * @param size 현재 항목 수
+     */
+    public record Stats(long hits, long misses, long evictions, long size) {
+    }
+
+    private record Entry<V>(V value, long writeNanos) {
+    }
+
+    private static final class Segment<K, V> {
+
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        // put/remove 마다 증가 (this 로 보호)
+        private long version;
+
+        private Segment(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key, long ttlNanos) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - entry.writeNanos() > ttlNanos) {
+                map.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        /**
+         * @param loadVersion 읽기 시작 시점의 쓰기 버전 (그 뒤로 쓰기가 있었으면 저장하지 않는다)
+         */
+        synchronized V putIfAbsent(K key, V value, long ttlNanos, long loadVersion) {
+            V existing = get(key, ttlNanos);
+            if (existing != null) {
+                return existing;
+            }
+            if (version == loadVersion) {
+                map.put(key, new Entry<>(value, System.nanoTime()));
+            }
+            return value;
+        }
+
+        synchronized void put(K key, V value) {
+            version++;
+            map.put(key, new Entry<>(value, System.nanoTime()));
+        }
+
+        synchronized void remove(K key) {
+            version++;
+            map.remove(key);
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
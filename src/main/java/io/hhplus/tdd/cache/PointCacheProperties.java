@@ -0,0 +1,18 @@
+package io.hhplus.tdd.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 잔액 캐시 설정 (point.cache.*)
+ * @param maxSize 최대 항목 수 (0 이면 캐시 사용 안 함)
+ * @param ttl 저장 후 만료 시간 (0 이면 만료 없음)
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record PointCacheProperties(
+        @DefaultValue("100000") long maxSize,
+        @DefaultValue("0s") Duration ttl
+) {
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합친다. (single-flight)
+ * - 처음 들어온 호출만 loader 를 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과(future)를 함께 기다린다.
+ * - 실행이 끝나면 키를 제거하므로 결과를 보관하지 않는다. (캐시가 아님)
+ * - loader 에서 발생한 예외는 기다리던 모든 호출에 그대로 전달된다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<? extends V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(executions.sum(), coalesced.sum(), inFlight.size());
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * single-flight 지표
+     * @param executions 실제 loader 실행 수
+     * @param coalesced 실행 중인 조회에 합쳐진 호출 수
+     * @param inFlight 현재 실행 중인 키 수
+     */
+    public record Stats(long executions, long coalesced, int inFlight) {
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.service.ActorPointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * actor 모드 구성 (point.service.mode=actor)
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "actor")
+@EnableConfigurationProperties(ActorPointProperties.class)
+public class PointActorConfig {
+}
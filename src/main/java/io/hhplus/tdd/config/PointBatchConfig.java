@@ -0,0 +1,25 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.service.PointBatchProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 일괄 충전 executor 구성 (point.batch.*)
+ * - spring.threads.virtual.enabled=true 면 사용자 그룹마다 가상 스레드를 쓰고, 아니면 point.batch.parallelism 크기의 스레드 풀을 쓴다.
+ * - sharded 모드에서는 모든 shard 가 함께 쓴다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointBatchProperties.class)
+public class PointBatchConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pointBatchExecutor(PointBatchProperties properties,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return properties.createExecutor(virtualThreads);
+    }
+}
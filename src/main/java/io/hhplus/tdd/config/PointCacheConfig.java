@@ -0,0 +1,21 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.cache.PointCacheProperties;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * UserPointTable 앞단 잔액 캐시 구성 (point.cache.*)
+ */
+@Configuration
+@EnableConfigurationProperties(PointCacheProperties.class)
+public class PointCacheConfig {
+
+    @Bean
+    public BoundedCache<Long, UserPoint> userPointCache(PointCacheProperties properties) {
+        return new BoundedCache<>(properties.maxSize(), properties.ttl());
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.analytics.PointRollupEngine;
+import io.hhplus.tdd.database.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.database.DurablePointHistoryRepository;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.MappedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryStorageFormat;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriteMode;
+import io.hhplus.tdd.database.PointHistoryWriteProperties;
+import io.hhplus.tdd.database.PointStorageProperties;
+import io.hhplus.tdd.database.RollupPointHistoryRepository;
+import io.hhplus.tdd.database.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * 포인트 내역 저장소 구성
+ * - point.storage.enabled=true 면 디스크에 저장되는 저장소(point.storage.history-format)를, 아니면 PointHistoryTable 기반 저장소를 쓴다.
+ * - point.history.write.mode 가 SYNC 가 아니면 write-behind 저장소로 감싸고 저장 지표를 등록한다.
+ * - 그 바깥은 시간대별 집계(RollupPointHistoryRepository)와 사용자별 내역 집계(AggregatingPointHistoryRepository)로 감싼다.
+ */
+@Configuration
+@EnableConfigurationProperties({PointHistoryWriteProperties.class, PointStorageProperties.class})
+public class PointHistoryConfig {
+
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable,
+                                                         PointHistoryWriteProperties properties,
+                                                         PointStorageProperties storageProperties,
+                                                         PointRollupEngine pointRollupEngine,
+                                                         PointMetrics pointMetrics) throws IOException {
+        return createRepository(pointHistoryTable, properties, storageProperties, pointRollupEngine, pointMetrics, "point_history");
+    }
+
+    /**
+     * 설정에 맞는 포인트 내역 저장소 생성 (sharded 모드에서 shard 마다 따로 만들 때도 사용)
+     * @param name 지표 태그에 쓰는 저장소 이름
+     */
+    public static PointHistoryRepository createRepository(PointHistoryTable pointHistoryTable,
+                                                          PointHistoryWriteProperties properties,
+                                                          PointStorageProperties storageProperties,
+                                                          PointRollupEngine pointRollupEngine,
+                                                          PointMetrics pointMetrics,
+                                                          String name) throws IOException {
+        PointHistoryRepository repository;
+        if (!storageProperties.enabled()) {
+            repository = new IndexedPointHistoryRepository(pointHistoryTable);
+        } else if (storageProperties.historyFormat() == PointHistoryStorageFormat.MAPPED) {
+            repository = new MappedPointHistoryRepository(storageProperties);
+        } else {
+            repository = new DurablePointHistoryRepository(storageProperties);
+        }
+        if (properties.mode() != PointHistoryWriteMode.SYNC) {
+            WriteBehindPointHistoryRepository writeBehind = new WriteBehindPointHistoryRepository(repository, properties);
+            pointMetrics.bindHistoryWriteBehind(name, writeBehind);
+            repository = writeBehind;
+        }
+        return new AggregatingPointHistoryRepository(new RollupPointHistoryRepository(repository, pointRollupEngine));
+    }
+}
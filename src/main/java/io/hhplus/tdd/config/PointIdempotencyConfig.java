@@ -0,0 +1,20 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.service.PointIdempotency;
+import io.hhplus.tdd.service.PointIdempotencyProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 충전/사용 Idempotency-Key 구성 (point.idempotency.*)
+ */
+@Configuration
+@EnableConfigurationProperties(PointIdempotencyProperties.class)
+public class PointIdempotencyConfig {
+
+    @Bean
+    public PointIdempotency pointIdempotency(PointIdempotencyProperties properties) {
+        return new PointIdempotency(properties);
+    }
+}
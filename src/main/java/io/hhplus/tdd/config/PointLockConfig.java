@@ -0,0 +1,27 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.lock.UserLockAdmission;
+import io.hhplus.tdd.lock.UserLockAdmissionProperties;
+import io.hhplus.tdd.lock.UserLockProperties;
+import io.hhplus.tdd.lock.UserLockProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자별 Lock 제공자 구성 (point.lock.strategy) 와 Lock 대기 제한 (point.lock.admission)
+ */
+@Configuration
+@EnableConfigurationProperties({UserLockProperties.class, UserLockAdmissionProperties.class})
+public class PointLockConfig {
+
+    @Bean
+    public UserLockProvider userLockProvider(UserLockProperties properties) {
+        return properties.strategy().create(properties);
+    }
+
+    @Bean
+    public UserLockAdmission userLockAdmission(UserLockAdmissionProperties properties) {
+        return new UserLockAdmission(properties);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 서비스 지표 구성 (/actuator/prometheus 로 노출)
+ */
+@Configuration
+public class PointMetricsConfig {
+
+    @Bean
+    public PointMetrics pointMetrics(MeterRegistry registry, UserLockProvider userLockProvider, BoundedCache<Long, UserPoint> userPointCache) {
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        pointMetrics.bindUserLocks(userLockProvider);
+        pointMetrics.bindCache("user_point", userPointCache);
+        return pointMetrics;
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.ratelimit.PointRateLimitInterceptor;
+import io.hhplus.tdd.ratelimit.PointRateLimitProperties;
+import io.hhplus.tdd.ratelimit.PointRateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 충전/사용 요청 제한 구성 (point.rate-limit.enabled=true, 기본값)
+ * - 충전/사용/일괄 충전 경로에만 PointRateLimitInterceptor 를 건다. (조회는 제한하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PointRateLimitProperties.class)
+public class PointRateLimitConfig {
+
+    @Bean
+    public PointRateLimiter pointRateLimiter(PointRateLimitProperties properties, PointMetrics pointMetrics) {
+        PointRateLimiter rateLimiter = new PointRateLimiter(properties);
+        pointMetrics.bindRateLimiter(rateLimiter);
+        return rateLimiter;
+    }
+
+    @Bean
+    public WebMvcConfigurer pointRateLimitWebMvcConfigurer(PointRateLimiter pointRateLimiter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new PointRateLimitInterceptor(pointRateLimiter))
+                        .addPathPatterns(
+                                "/point/*/charge",
+                                "/point/*/use",
+                                "/point/charge/batch",
+                                "/reactive/point/*/charge",
+                                "/reactive/point/*/use"
+                        );
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.service.ReactivePointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * reactive 모드 구성 (point.service.mode=reactive)
+ * - 블로킹 테이블 호출은 크기가 제한된 전용 스케줄러에서만 실행한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "reactive")
+@EnableConfigurationProperties(ReactivePointProperties.class)
+public class PointReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler pointTableScheduler(ReactivePointProperties properties) {
+        return Schedulers.newBoundedElastic(properties.threadCap(), properties.queuedTaskCap(), "point-table");
+    }
+}
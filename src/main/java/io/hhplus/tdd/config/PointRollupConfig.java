@@ -0,0 +1,20 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.analytics.PointRollupEngine;
+import io.hhplus.tdd.analytics.PointRollupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 내역 시간대별 집계 구성 (point.rollup.*)
+ */
+@Configuration
+@EnableConfigurationProperties(PointRollupProperties.class)
+public class PointRollupConfig {
+
+    @Bean
+    public PointRollupEngine pointRollupEngine(PointRollupProperties properties) {
+        return new PointRollupEngine(properties);
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.analytics.PointRollupEngine;
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.cache.PointCacheProperties;
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.DurableUserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriteProperties;
+import io.hhplus.tdd.database.PointStorageProperties;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.UserLockAdmission;
+import io.hhplus.tdd.lock.UserLockProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.PointServiceImpl;
+import io.hhplus.tdd.service.ShardedPointProperties;
+import io.hhplus.tdd.service.ShardedPointServiceImpl;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * sharded 모드 구성 (point.service.mode=sharded)
+ * - shard 마다 잔액 테이블, 내역 저장소, 사용자별 Lock, 잔액 캐시를 따로 만들어 PointServiceImpl 로 묶는다.
+ * - 테이블/저장소 종류는 단일 인스턴스와 같은 설정(point.table.type, point.storage.*, point.history.write.*)을 따르고,
+ *   디스크 저장을 켜면 shard 마다 {point.storage.directory}/shard-{번호} 디렉터리를 쓴다.
+ * - 잔액 캐시 최대 항목 수는 shard 수로 나눈다.
+ * - 시간대별 집계(PointRollupEngine), Lock 대기 제한(UserLockAdmission, 사용자별로 세므로 shard 와 무관),
+ *   일괄 충전 executor(pointBatchExecutor)는 모든 shard 가 함께 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "sharded")
+@EnableConfigurationProperties(ShardedPointProperties.class)
+public class PointShardConfig {
+
+    @Bean
+    public ShardedPointServiceImpl shardedPointService(ShardedPointProperties properties,
+                                                       @Value("${point.table.type:default}") String tableType,
+                                                       PointStorageProperties storageProperties,
+                                                       PointHistoryWriteProperties historyWriteProperties,
+                                                       UserLockProperties lockProperties,
+                                                       UserLockAdmission userLockAdmission,
+                                                       PointCacheProperties cacheProperties,
+                                                       PointMetrics pointMetrics,
+                                                       PointRollupEngine pointRollupEngine,
+                                                       @Qualifier("pointBatchExecutor") ExecutorService pointBatchExecutor) throws IOException {
+        int shardCount = Math.max(1, properties.shards());
+        List<PointService> shards = new ArrayList<>(shardCount);
+        List<AutoCloseable> resources = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            PointStorageProperties shardStorage = storageProperties.withDirectory(storageProperties.directory().resolve("shard-" + shard));
+
+            UserPointTable userPointTable;
+            if (shardStorage.enabled()) {
+                userPointTable = new DurableUserPointTable(shardStorage);
+            } else if ("primitive".equals(tableType)) {
+                userPointTable = new PrimitiveUserPointTable();
+            } else if ("concurrent".equals(tableType)) {
+                userPointTable = new ConcurrentUserPointTable();
+            } else {
+                userPointTable = new UserPointTable();
+            }
+            PointHistoryTable pointHistoryTable = "concurrent".equals(tableType) ? new ConcurrentPointHistoryTable() : new PointHistoryTable();
+            PointHistoryRepository pointHistoryRepository = PointHistoryConfig.createRepository(pointHistoryTable, historyWriteProperties, shardStorage, pointRollupEngine,
+                    pointMetrics, "point_history.shard-" + shard);
+            if (userPointTable instanceof DurableUserPointTable durableUserPointTable) {
+                PointStorageConfig.reconcile(durableUserPointTable, pointHistoryRepository, shardStorage);
+            }
+            for (Object resource : List.of(userPointTable, pointHistoryRepository)) {
+                if (resource instanceof AutoCloseable closeable) {
+                    resources.add(closeable);
+                }
+            }
+
+            BoundedCache<Long, UserPoint> userPointCache = new BoundedCache<>(cacheProperties.maxSize() / shardCount, cacheProperties.ttl());
+            pointMetrics.bindCache("user_point.shard-" + shard, userPointCache);
+
+            shards.add(new PointServiceImpl(
+                    userPointTable,
+                    pointHistoryRepository,
+                    lockProperties.strategy().create(lockProperties),
+                    userPointCache,
+                    pointMetrics,
+                    userLockAdmission,
+                    pointBatchExecutor
+            ));
+        }
+        return new ShardedPointServiceImpl(shards, resources);
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.database.DurableUserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointStorageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+
+/**
+ * 잔액 디스크 저장 구성 (point.storage.enabled=true)
+ * - 시작 시 snapshot + write-ahead log 로 잔액을 복구하고 내역 합계에 맞춘(reconcile) DurableUserPointTable 을 UserPointTable 로 주입한다.
+ * - 내역이 건별로 fsync 되지 않는 형식(history-format=mapped)이면 내역을 commit 기록으로 볼 수 없으므로 reconcile 하지 않는다.
+ * - 내역 저장소는 PointHistoryConfig 에서 같은 설정으로 고른다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.storage.enabled", havingValue = "true")
+public class PointStorageConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStorageConfig.class);
+
+    @Bean
+    @Primary
+    public DurableUserPointTable durableUserPointTable(PointStorageProperties properties,
+                                                       PointHistoryRepository pointHistoryRepository) throws IOException {
+        DurableUserPointTable table = new DurableUserPointTable(properties);
+        reconcile(table, pointHistoryRepository, properties);
+        return table;
+    }
+
+    /**
+     * 내역이 fsync 되는 형식일 때만 잔액을 내역 합계에 맞춘다. (sharded 모드의 shard 별 테이블에도 사용)
+     * - mapped 내역은 page cache 에만 있다가 비정상 종료로 사라질 수 있어, 맞추면 fsync 된 잔액이 유실된 내역 기준으로 되돌아간다.
+     */
+    static void reconcile(DurableUserPointTable table, PointHistoryRepository pointHistoryRepository, PointStorageProperties properties) {
+        if (!properties.durableHistory()) {
+            log.warn("point balance reconcile skipped: history format {} is not fsynced per write", properties.historyFormat());
+            return;
+        }
+        table.reconcile(pointHistoryRepository);
+    }
+}
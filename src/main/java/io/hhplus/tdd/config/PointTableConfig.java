@@ -0,0 +1,49 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 잔액/내역 테이블 구성 (point.table.type)
+ * - primitive : 원본 UserPointTable 대신 PrimitiveUserPointTable 을 주입한다.
+ * - concurrent : 원본 테이블 대신 동시 접근에 안전한 ConcurrentUserPointTable, ConcurrentPointHistoryTable 을 주입한다.
+ * - 디스크 저장(point.storage.enabled=true)을 켜면 DurableUserPointTable 이 우선이므로 잔액 테이블은 만들지 않는다.
+ */
+@Configuration
+public class PointTableConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "point.table.type", havingValue = "primitive")
+    static class PrimitiveTableConfig {
+
+        @Bean
+        @Primary
+        @ConditionalOnProperty(name = "point.storage.enabled", havingValue = "false", matchIfMissing = true)
+        public PrimitiveUserPointTable primitiveUserPointTable() {
+            return new PrimitiveUserPointTable();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "point.table.type", havingValue = "concurrent")
+    static class ConcurrentTableConfig {
+
+        @Bean
+        @Primary
+        @ConditionalOnProperty(name = "point.storage.enabled", havingValue = "false", matchIfMissing = true)
+        public ConcurrentUserPointTable concurrentUserPointTable() {
+            return new ConcurrentUserPointTable();
+        }
+
+        @Bean
+        @Primary
+        public ConcurrentPointHistoryTable concurrentPointHistoryTable() {
+            return new ConcurrentPointHistoryTable();
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package io.hhplus.tdd.controller;
 
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.service.PointIdempotency;
 import io.hhplus.tdd.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -9,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
@@ -17,6 +23,7 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final PointIdempotency pointIdempotency;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -30,34 +37,87 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - after/limit/from/to 중 하나라도 있으면 id 기준 키셋 페이지로 조회한다.
+     *   다음 페이지는 응답의 마지막 내역 id 를 after 로 넘겨 조회한다.
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        if (after == null && limit == null && from == null && to == null) {
+            return pointService.getPointHistory(id);
+        }
+        return pointService.getPointHistory(
+                id,
+                after == null ? 0L : after,
+                limit == null ? PointService.DEFAULT_HISTORY_PAGE_SIZE : limit,
+                from == null ? Long.MIN_VALUE : from,
+                to == null ? Long.MAX_VALUE : to
+        );
+    }
+
+    /**
+     * 특정 유저의 포인트 내역 집계를 조회한다. (충전/사용 합계, 건수, 첫/마지막 처리 시각)
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
             @PathVariable long id
     ) {
-        return pointService.getPointHistory(id);
+        return pointService.getPointSummary(id);
+    }
+
+    /**
+     * 특정 유저의 잔액이 내역 집계(충전 합계 - 사용 합계)와 같은지 검증한다.
+     */
+    @GetMapping("{id}/verify")
+    public PointVerification verify(
+            @PathVariable long id
+    ) {
+        return pointService.verify(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 들어온 요청은 충전하지 않고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = PointIdempotency.HEADER, required = false) String idempotencyKey
     ) {
 
-        return pointService.charge(id, amount);
+        return pointIdempotency.execute(id, idempotencyKey, "charge:" + amount,
+                () -> pointService.charge(id, amount));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 들어온 요청은 사용하지 않고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody UserPoint usePoint
+            @RequestBody UserPoint usePoint,
+            @RequestHeader(value = PointIdempotency.HEADER, required = false) String idempotencyKey
+    ) {
+        return pointIdempotency.execute(id, idempotencyKey, "use:" + usePoint.point() + ":" + usePoint.cost(),
+                () -> pointService.use(id, usePoint.point(), usePoint.cost()));
+    }
+
+    /**
+     * 여러 유저의 포인트를 일괄 충전한다. (캠페인 지급 등)
+     * - 항목별 결과를 요청과 같은 순서로 반환하며, 정책 위반 항목은 실패 사유를 담는다.
+     * - 비동기로 응답하므로 사용자 그룹을 처리하는 동안 요청 스레드를 점유하지 않는다.
+     */
+    @PostMapping("charge/batch")
+    public CompletableFuture<List<ChargeResult>> chargeAll(
+            @RequestBody List<ChargeCommand> commands
     ) {
-        return pointService.use(id, usePoint.point(), usePoint.cost());
+        return pointService.chargeAllAsync(commands);
     }
 }
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 내역 내보내기 (정산 대사용)
+ * - 내역을 목록으로 모으지 않고 Iterator 에서 한 건씩 읽어 응답 스트림에 바로 쓴다.
+ * - 응답 버퍼가 차면 write 가 블록되므로 느린 클라이언트에 맞춰 읽기 속도가 조절되고,
+ *   내역 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+public class PointHistoryExportController {
+
+    private static final String NDJSON = "ndjson";
+    private static final String CSV = "csv";
+    private static final String CSV_HEADER = "id,userId,amount,type,updateMillis\n";
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 특정 유저의 포인트 내역 전체를 내보낸다.
+     * @param format ndjson(기본) 또는 csv
+     */
+    @GetMapping("{id}/histories/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable long id,
+            @RequestParam(defaultValue = NDJSON) String format
+    ) {
+        return stream("point-history-" + id, format, () -> pointService.iteratePointHistory(id));
+    }
+
+    /**
+     * 전체 유저의 포인트 내역을 내보낸다. (사용자별로 묶어서 저장 순서)
+     * @param format ndjson(기본) 또는 csv
+     */
+    @GetMapping("histories/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(
+            @RequestParam(defaultValue = NDJSON) String format
+    ) {
+        return stream("point-history-all", format, pointService::iterateAllPointHistory);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String fileName, String format, Supplier<Iterator<PointHistory>> histories) {
+        boolean csv = CSV.equalsIgnoreCase(format);
+        if (!csv && !NDJSON.equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+
+        StreamingResponseBody body = out -> write(out, histories.get(), csv);
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + (csv ? ".csv" : ".ndjson") + "\"")
+                .body(body);
+    }
+
+    private void write(OutputStream out, Iterator<PointHistory> histories, boolean csv) throws IOException {
+        if (csv) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        int written = 0;
+        while (histories.hasNext()) {
+            PointHistory history = histories.next();
+            if (csv) {
+                out.write(toCsvLine(history).getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(history));
+                out.write('\n');
+            }
+
+            // 내역이 많아도 클라이언트가 진행 상황을 받을 수 있도록 주기적으로 내보낸다.
+            if (++written % FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
+    private String toCsvLine(PointHistory history) {
+        return history.id() + "," + history.userId() + "," + history.amount() + ","
+                + history.type() + "," + history.updateMillis() + "\n";
+    }
+}
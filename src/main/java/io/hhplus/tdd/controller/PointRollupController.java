@@ -0,0 +1,47 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.analytics.PointRollupBucket;
+import io.hhplus.tdd.analytics.PointRollupEngine;
+import io.hhplus.tdd.analytics.RollupGranularity;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 전체 사용자의 시간대별 충전/사용 집계 조회 (정산 대시보드용)
+ * - 원본 내역을 읽지 않고 PointRollupEngine 의 bucket 만 읽는다.
+ */
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+public class PointRollupController {
+
+    private final PointRollupEngine pointRollupEngine;
+
+    /**
+     * [from, to) 구간의 bucket 별 금액 합계, 건수, 사용자 수 추정치를 조회한다.
+     * @param granularity MINUTE / HOUR(기본) / DAY
+     * @param type CHARGE / USE (없으면 모두)
+     * @param from 조회 시작 시각 (epoch millis, 없으면 처음부터)
+     * @param to 조회 종료 시각 (epoch millis, 없으면 끝까지)
+     */
+    @GetMapping("rollups")
+    public List<PointRollupBucket> rollups(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        return pointRollupEngine.query(
+                granularity,
+                type,
+                from == null ? 0L : from,
+                to == null ? Long.MAX_VALUE : to
+        );
+    }
+}
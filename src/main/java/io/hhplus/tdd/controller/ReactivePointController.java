@@ -0,0 +1,65 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.service.ReactivePointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PointController 와 같은 API 를 Mono/Flux 로 제공 (point.service.mode=reactive)
+ * - 요청 스레드는 결과를 기다리지 않고 반환되며, 결과가 준비되면 비동기로 응답한다.
+ */
+@RestController
+@RequestMapping("/reactive/point")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "reactive")
+public class ReactivePointController {
+
+    private final ReactivePointService reactivePointService;
+
+    /**
+     * 특정 유저의 포인트를 조회한다.
+     */
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return reactivePointService.getUserPoint(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 조회한다.
+     */
+    @GetMapping("{id}/histories")
+    public Flux<PointHistory> history(
+            @PathVariable long id
+    ) {
+        return reactivePointService.getPointHistory(id);
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전한다.
+     */
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.charge(id, amount);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용한다.
+     */
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody UserPoint usePoint
+    ) {
+        return reactivePointService.use(id, usePoint.point(), usePoint.cost());
+    }
+}
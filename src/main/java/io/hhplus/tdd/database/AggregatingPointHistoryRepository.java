@@ -0,0 +1,108 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 내역 집계를 유지하는 포인트 내역 저장소
+ * - 저장은 delegate 에 위임하고, 저장이 끝나면 해당 사용자의 집계(충전/사용 합계, 건수, 첫/마지막 처리 시각)를 갱신한다.
+ * - summarize 는 내역을 읽지 않고 집계를 바로 반환한다. (O(1))
+ * - 집계는 불변 PointSummary 를 사용자별로 교체하므로 조회는 락 없이 항상 완성된 집계를 본다.
+ * - 생성 시 delegate 에 이미 있는 내역(디스크 저장소에서 복구된 내역)으로 집계를 다시 만든다.
+ * - write-behind 저장소를 감싸면 큐에 넣은 시점에 집계가 갱신된다. (잔액 저장과 같은 시점)
+ */
+public class AggregatingPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregatingPointHistoryRepository.class);
+
+    private final PointHistoryRepository delegate;
+
+    // 사용자 ID -> 해당 사용자의 내역 집계
+    private final ConcurrentHashMap<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+
+    public AggregatingPointHistoryRepository(PointHistoryRepository delegate) {
+        this.delegate = delegate;
+        rebuild();
+    }
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        delegate.insert(userId, amount, type, updateMillis);
+        summaries.compute(userId, (id, summary) ->
+                (summary == null ? PointSummary.empty(id) : summary).add(type, amount, updateMillis));
+    }
+
+    @Override
+    public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        delegate.insertAll(userId, amounts, type, updateMillis);
+        long total = 0;
+        for (long amount : amounts) {
+            total += amount;
+        }
+        long sum = total;
+        summaries.compute(userId, (id, summary) ->
+                (summary == null ? PointSummary.empty(id) : summary).addAll(type, sum, amounts.size(), updateMillis));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        return delegate.selectByUserId(userId, afterId, fromMillis, toMillis, limit);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return delegate.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        return delegate.iterateAll();
+    }
+
+    @Override
+    public PointSummary summarize(long userId) {
+        PointSummary summary = summaries.get(userId);
+        return summary != null ? summary : PointSummary.empty(userId);
+    }
+
+    /**
+     * 닫을 수 있는 delegate 를 닫는다.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.error("point history repository close failed", e);
+            }
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        Iterator<PointHistory> histories = delegate.iterateAll();
+        while (histories.hasNext()) {
+            PointHistory pointHistory = histories.next();
+            summaries.compute(pointHistory.userId(), (id, summary) ->
+                    (summary == null ? PointSummary.empty(id) : summary).add(pointHistory.type(), pointHistory.amount(), pointHistory.updateMillis()));
+        }
+        if (!summaries.isEmpty()) {
+            log.info("point history summaries rebuilt: {} users, {}ms",
+                    summaries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 동시 접근에 안전한 PointHistoryTable (point.table.type=concurrent)
+ * - 원본 PointHistoryTable 은 cursor++ 와 ArrayList.add 가 동기화되지 않아 서로 다른 사용자의 저장이 겹치면 id 가 중복되거나 내역이 사라진다.
+ * - id 는 AtomicLong 으로 발급하고, 내역은 id 위치의 고정 크기 segment 칸에 쓴다. (segment = 4096 칸)
+ *   서로 다른 칸에 쓰므로 저장끼리 락 없이 병렬로 진행되고, segment 를 새로 붙일 때만 segment 목록을 복사해 교체한다. (copy-on-write)
+ * - 조회는 락 없이 segment 를 처음부터 훑는다. id 는 발급되었지만 아직 쓰이지 않은 칸은 건너뛰므로
+ *   저장이 끝난(insert 가 반환된) 내역은 항상 보이고, 진행 중인 내역은 보이거나 보이지 않는다.
+ * - 원본 PointHistoryTable 과 달리 throttle 하지 않는다.
+ */
+public class ConcurrentPointHistoryTable extends PointHistoryTable {
+
+    private static final int SEGMENT_SHIFT = 12;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    // 마지막으로 발급한 id
+    private final AtomicLong sequence = new AtomicLong();
+
+    // segment 를 붙일 때만 새 배열로 교체한다. (this 로 보호, 읽기는 락 없음)
+    @SuppressWarnings("unchecked")
+    private volatile AtomicReferenceArray<PointHistory>[] segments = new AtomicReferenceArray[0];
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long id = sequence.incrementAndGet();
+        PointHistory pointHistory = new PointHistory(id, userId, amount, type, updateMillis);
+        long row = id - 1;
+        segment((int) (row >>> SEGMENT_SHIFT)).set((int) (row & SEGMENT_MASK), pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> result = new ArrayList<>();
+        long last = sequence.get();
+        AtomicReferenceArray<PointHistory>[] current = segments;
+        for (long row = 0; row < last; row++) {
+            int index = (int) (row >>> SEGMENT_SHIFT);
+            if (index >= current.length) {
+                // 발급 직후 segment 가 아직 붙지 않은 id
+                break;
+            }
+            PointHistory pointHistory = current[index].get((int) (row & SEGMENT_MASK));
+            if (pointHistory != null && pointHistory.userId() == userId) {
+                result.add(pointHistory);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 발급한 id 수 (저장 중인 내역 포함)
+     */
+    public long size() {
+        return sequence.get();
+    }
+
+    private AtomicReferenceArray<PointHistory> segment(int index) {
+        AtomicReferenceArray<PointHistory>[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        synchronized (this) {
+            current = segments;
+            if (index >= current.length) {
+                AtomicReferenceArray<PointHistory>[] grown = Arrays.copyOf(current, index + 1);
+                for (int i = current.length; i <= index; i++) {
+                    grown[i] = new AtomicReferenceArray<>(SEGMENT_SIZE);
+                }
+                segments = grown;
+                current = grown;
+            }
+            return current[index];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동시 접근에 안전한 UserPointTable (point.table.type=concurrent)
+ * - 원본 UserPointTable 의 HashMap 은 서로 다른 사용자를 동시에 저장하면 깨질 수 있다.
+ *   ConcurrentHashMap 으로 바꿔 서로 다른 사용자의 저장이 락 없이(같은 bin 이 아니면) 병렬로 진행되고, 조회는 항상 락 없이 읽는다.
+ * - 같은 사용자의 읽기-수정-저장 순서는 보장하지 않으므로 사용자 단위 직렬화는 서비스(사용자별 Lock 등)가 맡는다.
+ * - 원본 UserPointTable 과 달리 throttle 하지 않는다.
+ */
+public class ConcurrentUserPointTable extends UserPointTable {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        UserPoint userPoint = table.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount, long cost) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis(), cost);
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    /**
+     * 저장된 사용자 수
+     */
+    public int size() {
+        return table.size();
+    }
+}
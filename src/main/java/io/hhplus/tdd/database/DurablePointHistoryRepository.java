@@ -0,0 +1,128 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 디스크에 저장되는 포인트 내역 저장소 (point.storage.enabled=true)
+ * - 내역은 append-only 이므로 write-ahead log(history.wal) 자체가 저장소이다. 저장은 log 에 append 하고 fsync 된 뒤에 반환한다.
+ * - 조회는 IndexedPointHistoryRepository 와 같이 메모리의 사용자별 인덱스를 읽는다.
+ * - 시작 시 log 전체를 replay 해 사용자별 인덱스와 내역 id 를 복구한다.
+ */
+public class DurablePointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DurablePointHistoryRepository.class);
+
+    // (id, userId, amount, updateMillis, type)
+    static final int RECORD_SIZE = 4 * Long.BYTES + Integer.BYTES;
+    static final String WAL_FILE = "history.wal";
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final WriteAheadLog wal;
+
+    // 사용자 ID -> 해당 사용자의 내역 인덱스
+    private final ConcurrentHashMap<Long, UserHistoryIndex> indexes = new ConcurrentHashMap<>();
+
+    // 마지막 내역 id (appendLock 으로 보호, log 에 append 되는 순서와 id 순서를 맞춘다)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private long sequence;
+
+    public DurablePointHistoryRepository(PointStorageProperties properties) throws IOException {
+        Files.createDirectories(properties.directory());
+        long start = System.nanoTime();
+        Path file = properties.directory().resolve(WAL_FILE);
+        this.wal = WriteAheadLog.open(file, RECORD_SIZE, properties.fsyncInterval(), record -> index(read(record)));
+        log.info("point history recovered: {} rows of {} users, {}ms",
+                sequence, indexes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        insertAll(userId, List.of(amount), type, updateMillis);
+    }
+
+    /**
+     * 여러 건을 모두 append 한 뒤 한 번만 fsync 를 기다린다.
+     */
+    @Override
+    public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        long position = 0;
+        appendLock.lock();
+        try {
+            for (long amount : amounts) {
+                PointHistory pointHistory = new PointHistory(sequence + 1, userId, amount, type, updateMillis);
+                position = wal.append(buffer -> write(buffer, pointHistory));
+                index(pointHistory);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        wal.sync(position);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? List.of() : index.toList();
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? List.of() : index.page(afterId, fromMillis, toMillis, limit);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? Collections.emptyIterator() : index.iterator();
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        return UserHistoryIndex.concat(indexes.values().iterator());
+    }
+
+    /**
+     * log 에 남은 내역을 fsync 하고 닫는다.
+     */
+    @Override
+    public void close() {
+        wal.close();
+    }
+
+    private void index(PointHistory pointHistory) {
+        sequence = pointHistory.id();
+        indexes.computeIfAbsent(pointHistory.userId(), UserHistoryIndex::new).append(pointHistory);
+    }
+
+    static void write(ByteBuffer buffer, PointHistory pointHistory) {
+        buffer.putLong(pointHistory.id())
+                .putLong(pointHistory.userId())
+                .putLong(pointHistory.amount())
+                .putLong(pointHistory.updateMillis())
+                .putInt(pointHistory.type().ordinal());
+    }
+
+    static PointHistory read(ByteBuffer record) {
+        long id = record.getLong();
+        long userId = record.getLong();
+        long amount = record.getLong();
+        long updateMillis = record.getLong();
+        return new PointHistory(id, userId, amount, TYPES[record.getInt()], updateMillis);
+    }
+}
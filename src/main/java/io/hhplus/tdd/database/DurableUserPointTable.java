@@ -0,0 +1,311 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 디스크에 저장되는 UserPointTable (point.storage.enabled=true)
+ * - 잔액 변경은 write-ahead log(balance-{세대}.wal)에 먼저 append 하고, fsync 된 뒤에 반환한다.
+ * - snapshot() 은 새 세대의 log 로 바꾼 뒤 잔액 전체를 balance-{세대}.snapshot 에 쓰고, 이전 세대의 파일을 지운다.
+ * - 시작 시 마지막 snapshot 을 읽고 같은 세대 이후의 log(tail)를 replay 해 잔액을 복구한다.
+ *   log 레코드는 변경 후 잔액(절대값)이므로 snapshot 에 이미 반영된 변경을 다시 replay 해도 결과가 같다.
+ * - 잔액과 내역은 서로 다른 log 에 저장되므로 복구 후 reconcile 로 잔액을 내역 합계에 맞춘다. (내역 log 가 commit 기록)
+ * - 원본 UserPointTable 과 달리 throttle 하지 않고, 여러 사용자를 동시에 저장해도 안전하다.
+ * - append 중 파일 쓰기가 일어날 수 있어 synchronized 대신 ReentrantLock 으로 보호한다. (가상 스레드 모드)
+ */
+public class DurableUserPointTable extends UserPointTable implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DurableUserPointTable.class);
+
+    // (id, point, updateMillis, cost)
+    static final int RECORD_SIZE = 4 * Long.BYTES;
+
+    private static final String WAL_PREFIX = "balance-";
+    private static final String WAL_SUFFIX = ".wal";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final Duration fsyncInterval;
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    // 현재 세대의 log (walLock 으로 보호, 잔액 반영과 log append 순서를 맞춘다)
+    private final ReentrantLock walLock = new ReentrantLock();
+    private WriteAheadLog wal;
+    private long generation;
+
+    // snapshot 은 한 번에 하나만
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService snapshotScheduler;
+
+    public DurableUserPointTable(PointStorageProperties properties) throws IOException {
+        this.directory = properties.directory();
+        this.fsyncInterval = properties.fsyncInterval();
+        Files.createDirectories(directory);
+        recover();
+
+        Duration snapshotInterval = properties.snapshotInterval();
+        if (snapshotInterval.isZero() || snapshotInterval.isNegative()) {
+            this.snapshotScheduler = null;
+            return;
+        }
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = snapshotInterval.toMillis();
+        snapshotScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                log.error("point balance snapshot failed", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount, long cost) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis(), cost);
+        WriteAheadLog current;
+        long position;
+        walLock.lock();
+        try {
+            current = wal;
+            position = current.append(buffer -> write(buffer, userPoint));
+            table.put(id, userPoint);
+        } finally {
+            walLock.unlock();
+        }
+        current.sync(position);
+        return userPoint;
+    }
+
+    /**
+     * 내역을 commit 기록으로 보고 잔액을 내역 합계(충전 합계 - 사용 합계)에 맞춘다. (시작 시 복구 직후 한 번)
+     * - 충전/사용은 잔액을 저장한 뒤 내역을 저장하므로, 그 사이에 종료되면 잔액만 바뀐 채로 복구된다.
+     *   이 변경은 호출자에게 응답하기 전에 끊긴 것이므로 잔액을 내역 기준으로 되돌린다. (/verify 가 계속 불일치로 남지 않도록)
+     * - 고친 잔액도 log 에 append 하므로 다음 재시작에서는 고칠 것이 없다.
+     * @return 잔액을 고친 사용자 수
+     */
+    public int reconcile(PointHistoryRepository pointHistoryRepository) {
+        Map<Long, Long> expected = new HashMap<>();
+        for (Iterator<PointHistory> iterator = pointHistoryRepository.iterateAll(); iterator.hasNext(); ) {
+            PointHistory pointHistory = iterator.next();
+            long delta = pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+            expected.merge(pointHistory.userId(), delta, Long::sum);
+        }
+
+        Set<Long> userIds = new HashSet<>(table.keySet());
+        userIds.addAll(expected.keySet());
+        int repaired = 0;
+        for (long userId : userIds) {
+            UserPoint current = selectById(userId);
+            long point = expected.getOrDefault(userId, 0L);
+            if (current.point() != point) {
+                log.warn("point balance reconciled with history: userId={}, {} -> {}", userId, current.point(), point);
+                insertOrUpdate(userId, point, current.cost());
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 잔액 snapshot
+     * - log 를 새 세대로 바꾼 뒤 잔액을 복사하므로, 복사 중 들어온 변경은 새 세대 log 에도 남는다.
+     * - snapshot 파일을 fsync 하고 이름을 바꾼 뒤에야 이전 세대의 log/snapshot 을 지운다.
+     * @return snapshot 에 기록된 사용자 수
+     */
+    public long snapshot() {
+        snapshotLock.lock();
+        try {
+            WriteAheadLog previous;
+            long snapshotGeneration;
+            walLock.lock();
+            try {
+                previous = wal;
+                snapshotGeneration = generation + 1;
+                wal = openWal(snapshotGeneration);
+                generation = snapshotGeneration;
+            } finally {
+                walLock.unlock();
+            }
+            // 이전 세대 log 에 남은 레코드 fsync (대기 중인 sync 호출도 함께 완료된다)
+            previous.close();
+
+            long start = System.nanoTime();
+            Path temp = directory.resolve(WAL_PREFIX + sequence(snapshotGeneration) + SNAPSHOT_SUFFIX + TEMP_SUFFIX);
+            long entries = 0;
+            try {
+                Files.deleteIfExists(temp);
+                try (WriteAheadLog snapshot = WriteAheadLog.open(temp, RECORD_SIZE, Duration.ZERO, record -> {
+                })) {
+                    for (UserPoint userPoint : table.values()) {
+                        snapshot.append(buffer -> write(buffer, userPoint));
+                        entries++;
+                    }
+                }
+                Files.move(temp, snapshotFile(directory, snapshotGeneration), StandardCopyOption.ATOMIC_MOVE);
+                deleteBefore(snapshotGeneration);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info("point balance snapshot: generation={}, users={}, {}ms",
+                    snapshotGeneration, entries, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return entries;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 snapshot 을 마친 뒤 log 에 남은 레코드를 fsync 하고 닫는다.
+     */
+    @Override
+    public void close() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        snapshotLock.lock();
+        try {
+            walLock.lock();
+            try {
+                wal.close();
+            } finally {
+                walLock.unlock();
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 snapshot + 같은 세대 이후의 log 를 읽어 잔액 복구
+     */
+    private void recover() throws IOException {
+        long start = System.nanoTime();
+        List<Long> snapshots = generations(SNAPSHOT_SUFFIX);
+        long snapshotGeneration = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+        long snapshotEntries = snapshots.isEmpty() ? 0
+                : WriteAheadLog.read(snapshotFile(directory, snapshotGeneration), RECORD_SIZE, this::replay);
+
+        List<Long> wals = generations(WAL_SUFFIX).stream().filter(walGeneration -> walGeneration >= snapshotGeneration).toList();
+        long replayed = 0;
+        for (int i = 0; i < wals.size() - 1; i++) {
+            replayed += WriteAheadLog.read(walFile(directory, wals.get(i)), RECORD_SIZE, this::replay);
+        }
+        generation = wals.isEmpty() ? snapshotGeneration : wals.get(wals.size() - 1);
+        long[] tail = new long[1];
+        wal = WriteAheadLog.open(walFile(directory, generation), RECORD_SIZE, fsyncInterval, record -> {
+            replay(record);
+            tail[0]++;
+        });
+        replayed += tail[0];
+        deleteBefore(snapshotGeneration);
+
+        log.info("point balances recovered: users={} (snapshot generation={}, entries={}, wal records={}), {}ms",
+                table.size(), snapshotGeneration, snapshotEntries, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void replay(ByteBuffer record) {
+        UserPoint userPoint = read(record);
+        table.put(userPoint.id(), userPoint);
+    }
+
+    private WriteAheadLog openWal(long walGeneration) {
+        try {
+            return WriteAheadLog.open(walFile(directory, walGeneration), RECORD_SIZE, fsyncInterval, record -> {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 세대가 generation 보다 작은 log/snapshot 과 남은 임시 파일 삭제
+     */
+    private void deleteBefore(long generation) throws IOException {
+        for (long old : generations(WAL_SUFFIX)) {
+            if (old < generation) {
+                Files.deleteIfExists(walFile(directory, old));
+            }
+        }
+        for (long old : generations(SNAPSHOT_SUFFIX)) {
+            if (old < generation) {
+                Files.deleteIfExists(snapshotFile(directory, old));
+            }
+        }
+        for (long old : generations(SNAPSHOT_SUFFIX + TEMP_SUFFIX)) {
+            if (old < generation) {
+                Files.deleteIfExists(directory.resolve(WAL_PREFIX + sequence(old) + SNAPSHOT_SUFFIX + TEMP_SUFFIX));
+            }
+        }
+    }
+
+    /**
+     * 디렉터리에 있는 balance-{세대}{suffix} 파일의 세대 목록 (오름차순)
+     */
+    private List<Long> generations(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(WAL_PREFIX) && name.endsWith(suffix))
+                    .map(name -> name.substring(WAL_PREFIX.length(), name.length() - suffix.length()))
+                    .filter(digits -> !digits.isEmpty() && digits.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static Path walFile(Path directory, long generation) {
+        return directory.resolve(WAL_PREFIX + sequence(generation) + WAL_SUFFIX);
+    }
+
+    static Path snapshotFile(Path directory, long generation) {
+        return directory.resolve(WAL_PREFIX + sequence(generation) + SNAPSHOT_SUFFIX);
+    }
+
+    static void write(ByteBuffer buffer, UserPoint userPoint) {
+        buffer.putLong(userPoint.id())
+                .putLong(userPoint.point())
+                .putLong(userPoint.updateMillis())
+                .putLong(userPoint.cost());
+    }
+
+    static UserPoint read(ByteBuffer record) {
+        return new UserPoint(record.getLong(), record.getLong(), record.getLong(), record.getLong());
+    }
+
+    private static String sequence(long generation) {
+        return String.format("%016d", generation);
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 인덱스를 유지하는 포인트 내역 저장소
+ * - 저장은 PointHistoryTable 에 위임하고, 저장된 내역을 사용자별 인덱스에도 추가한다.
+ * - 조회는 전체 테이블을 훑지 않고 해당 사용자의 인덱스만 읽으므로 O(해당 사용자 내역 수)이다.
+ */
+@RequiredArgsConstructor
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+
+    // 사용자 ID -> 해당 사용자의 내역 인덱스
+    private final ConcurrentHashMap<Long, UserHistoryIndex> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        indexes.computeIfAbsent(userId, UserHistoryIndex::new).append(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? List.of() : index.toList();
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? List.of() : index.page(afterId, fromMillis, toMillis, limit);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        UserHistoryIndex index = indexes.get(userId);
+        return index == null ? Collections.emptyIterator() : index.iterator();
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        return UserHistoryIndex.concat(indexes.values().iterator());
+    }
+}
@@ -0,0 +1,319 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * memory-mapped segment 파일에 컬럼 단위로 저장하는 포인트 내역 저장소 (point.storage.history-format=mapped)
+ * - 내역 한 건(row)은 id, userId, amount, updateMillis, next(같은 사용자의 다음 row), type 을 고정 폭 컬럼에 나눠 쓴다.
+ *   segment 파일 하나에 segmentRows 건씩 담고, 파일 안에서는 컬럼마다 연속된 배열이다.
+ * - 내역은 heap 이 아닌 mapped 메모리(page cache)에 있으므로 heap 에는 사용자별 첫/마지막 row 와 건수만 남는다.
+ *   사용자 내역 조회는 첫 row 부터 next 컬럼을 따라가며 mapped 메모리에서 바로 읽는다.
+ * - id 는 row 번호 + 1 이고, id 컬럼을 가장 마지막에 쓴다. 시작 시 id 가 0 인 row 까지를 유효한 내역으로 보고 인덱스를 다시 만든다.
+ * - 쓰기는 한 번에 한 스레드만, 읽기는 락 없이 동시에 수행할 수 있다.
+ * - 디스크 반영은 OS 의 page cache flush 에 맡기고, close() 시 force 한다. (건별 fsync 가 필요하면 WAL 형식을 쓴다)
+ */
+public class MappedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPointHistoryRepository.class);
+
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    // 컬럼 순서 (8바이트 컬럼 5개 + 1바이트 type 컬럼)
+    private static final int ID = 0;
+    private static final int USER_ID = 1;
+    private static final int AMOUNT = 2;
+    private static final int MILLIS = 3;
+    private static final int NEXT = 4;
+    private static final int LONG_COLUMNS = 5;
+    static final int ROW_SIZE = LONG_COLUMNS * Long.BYTES + Byte.BYTES;
+
+    private static final long NO_ROW = -1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int segmentRows;
+
+    // 읽기 스레드는 segments 를 락 없이 읽는다. (쓰기 스레드가 늘릴 때 새 배열로 교체)
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    // 사용자 ID -> 해당 사용자의 첫/마지막 row (쓰기 스레드가 row 를 모두 쓴 뒤 교체하므로 읽기 스레드는 완성된 row 만 본다)
+    private final ConcurrentHashMap<Long, UserRows> users = new ConcurrentHashMap<>();
+
+    // 쓰기 스레드 전용 (this 로 보호)
+    private long rowCount;
+
+    public MappedPointHistoryRepository(PointStorageProperties properties) throws IOException {
+        if ((long) properties.historySegmentRows() * ROW_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segment 크기는 2GB 를 넘을 수 없습니다: " + properties.historySegmentRows() + " rows");
+        }
+        this.directory = properties.directory();
+        this.segmentRows = Math.max(1, properties.historySegmentRows());
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        insertAll(userId, List.of(amount), type, updateMillis);
+    }
+
+    @Override
+    public synchronized void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        UserRows current = users.get(userId);
+        long first = current == null ? NO_ROW : current.first();
+        long last = current == null ? NO_ROW : current.last();
+        for (long amount : amounts) {
+            long row = rowCount;
+            MappedByteBuffer segment = segment(row);
+            int index = index(row);
+            segment.putLong(offset(USER_ID, index), userId);
+            segment.putLong(offset(AMOUNT, index), amount);
+            segment.putLong(offset(MILLIS, index), updateMillis);
+            segment.putLong(offset(NEXT, index), NO_ROW);
+            segment.put(typeOffset(index), (byte) type.ordinal());
+            // id 를 마지막에 써야 재시작 시 완성된 row 만 유효한 내역으로 본다.
+            segment.putLong(offset(ID, index), row + 1);
+            if (last != NO_ROW) {
+                segment(last).putLong(offset(NEXT, index(last)), row);
+            } else {
+                first = row;
+            }
+            last = row;
+            rowCount++;
+        }
+        users.put(userId, new UserRows(first, last, (current == null ? 0 : current.count()) + amounts.size()));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserRows rows = users.get(userId);
+        if (rows == null) {
+            return List.of();
+        }
+        List<PointHistory> result = new ArrayList<>((int) Math.min(rows.count(), Integer.MAX_VALUE));
+        new RowIterator(rows.first(), rows.last()).forEachRemaining(result::add);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * afterId 가 같은 사용자의 내역이면 그 다음 row 부터 바로 읽고, 아니면 첫 row 부터 건너뛴다.
+     */
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        UserRows rows = users.get(userId);
+        if (rows == null || limit <= 0) {
+            return List.of();
+        }
+        long start = rows.first();
+        long afterRow = afterId - 1;
+        if (afterRow >= rows.first() && afterRow < rows.last() && readLong(afterRow, USER_ID) == userId) {
+            start = readLong(afterRow, NEXT);
+        } else if (afterRow >= rows.last()) {
+            return List.of();
+        }
+
+        List<PointHistory> result = new ArrayList<>(Math.min(limit, 64));
+        RowIterator iterator = new RowIterator(start, rows.last());
+        while (iterator.hasNext() && result.size() < limit) {
+            PointHistory pointHistory = iterator.next();
+            if (pointHistory.id() > afterId && pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis) {
+                result.add(pointHistory);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        UserRows rows = users.get(userId);
+        return rows == null ? Collections.emptyIterator() : new RowIterator(rows.first(), rows.last());
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        Iterator<UserRows> rows = users.values().iterator();
+        return new Iterator<>() {
+            private Iterator<PointHistory> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && rows.hasNext()) {
+                    UserRows next = rows.next();
+                    current = new RowIterator(next.first(), next.last());
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public PointHistory next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * 저장된 내역 수
+     */
+    public synchronized long size() {
+        return rowCount;
+    }
+
+    /**
+     * mapped 메모리의 변경을 디스크에 반영한다.
+     */
+    @Override
+    public synchronized void close() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * segment 파일의 id 컬럼을 처음부터 읽어 유효한 내역 수를 구하고, 사용자별 첫/마지막 row 를 다시 만든다.
+     * - 마지막 row 를 쓰는 도중 종료되어 이전 row 의 next 가 비어 있으면 다시 연결한다.
+     */
+    private void recover() throws IOException {
+        long start = System.nanoTime();
+        for (int sequence = 0; Files.exists(segmentFile(sequence)); sequence++) {
+            map(sequence);
+        }
+
+        long row = 0;
+        while (row < (long) segments.length * segmentRows && readLong(row, ID) == row + 1) {
+            long userId = readLong(row, USER_ID);
+            UserRows current = users.get(userId);
+            if (current == null) {
+                users.put(userId, new UserRows(row, row, 1));
+            } else {
+                if (readLong(current.last(), NEXT) != row) {
+                    segment(current.last()).putLong(offset(NEXT, index(current.last())), row);
+                }
+                users.put(userId, new UserRows(current.first(), row, current.count() + 1));
+            }
+            row++;
+        }
+        rowCount = row;
+        log.info("point history mapped: {} rows of {} users in {} segments, {}ms",
+                rowCount, users.size(), segments.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private MappedByteBuffer segment(long row) {
+        int sequence = (int) (row / segmentRows);
+        MappedByteBuffer[] current = segments;
+        if (sequence < current.length) {
+            return current[sequence];
+        }
+        try {
+            return map(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * segment 파일을 만들거나 열어 mapping 한다. (파일 크기는 mapping 시 segmentRows 건 크기로 늘어나고 0 으로 채워진다)
+     */
+    private MappedByteBuffer map(int sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRows * ROW_SIZE);
+            MappedByteBuffer[] grown = Arrays.copyOf(segments, sequence + 1);
+            grown[sequence] = segment;
+            segments = grown;
+            return segment;
+        }
+    }
+
+    private Path segmentFile(int sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%08d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private long readLong(long row, int column) {
+        return segments[(int) (row / segmentRows)].getLong(offset(column, index(row)));
+    }
+
+    private PointHistory read(long row) {
+        MappedByteBuffer segment = segments[(int) (row / segmentRows)];
+        int index = index(row);
+        return new PointHistory(
+                segment.getLong(offset(ID, index)),
+                segment.getLong(offset(USER_ID, index)),
+                segment.getLong(offset(AMOUNT, index)),
+                TYPES[segment.get(typeOffset(index))],
+                segment.getLong(offset(MILLIS, index))
+        );
+    }
+
+    private int index(long row) {
+        return (int) (row % segmentRows);
+    }
+
+    private int offset(int column, int index) {
+        return (column * segmentRows + index) * Long.BYTES;
+    }
+
+    private int typeOffset(int index) {
+        return LONG_COLUMNS * segmentRows * Long.BYTES + index;
+    }
+
+    /**
+     * 한 사용자의 row 를 next 컬럼을 따라 last 까지 읽는 Iterator
+     * - last 는 조회 시점에 완성된 row 이므로 쓰기와 동시에 읽어도 덜 쓰인 row 를 보지 않는다.
+     */
+    private final class RowIterator implements Iterator<PointHistory> {
+        private final long last;
+        private long row;
+
+        private RowIterator(long first, long last) {
+            this.row = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return row != NO_ROW;
+        }
+
+        @Override
+        public PointHistory next() {
+            if (row == NO_ROW) {
+                throw new NoSuchElementException();
+            }
+            PointHistory pointHistory = read(row);
+            row = row == last ? NO_ROW : readLong(row, NEXT);
+            return pointHistory;
+        }
+    }
+
+    /**
+     * 한 사용자의 내역 위치
+     * @param first 첫 row
+     * @param last 마지막 row
+     * @param count 내역 수
+     */
+    private record UserRows(long first, long last, long count) {
+    }
+}
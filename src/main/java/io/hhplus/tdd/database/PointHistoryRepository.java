@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ * - PointHistoryTable 앞단에서 사용자별 조회를 담당한다.
+ */
+public interface PointHistoryRepository {
+
+    /**
+     * 포인트 내역 저장
+     * @param userId 사용자 ID
+     * @param amount 충전/사용 금액
+     * @param type 트랜잭션 종류
+     * @param updateMillis 처리 시각
+     */
+    void insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 같은 사용자의 포인트 내역 여러 건 저장 (순서대로)
+     * @param userId 사용자 ID
+     * @param amounts 충전/사용 금액 목록
+     * @param type 트랜잭션 종류
+     * @param updateMillis 처리 시각
+     */
+    default void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        for (long amount : amounts) {
+            insert(userId, amount, type, updateMillis);
+        }
+    }
+
+    /**
+     * 사용자의 전체 포인트 내역 조회 (저장 순서)
+     * @param userId 사용자 ID
+     * @return
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 사용자의 포인트 내역 페이지 조회 (id 기준 키셋 페이지네이션)
+     * @param userId 사용자 ID
+     * @param afterId 이 id 보다 큰 내역부터 조회 (처음 조회 시 0)
+     * @param fromMillis 조회 시작 시각 (포함)
+     * @param toMillis 조회 종료 시각 (미포함)
+     * @param limit 최대 조회 건수
+     * @return
+     */
+    List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit);
+
+    /**
+     * 사용자의 포인트 내역을 한 건씩 읽는 Iterator (저장 순서)
+     * @param userId 사용자 ID
+     * @return
+     */
+    Iterator<PointHistory> iterateByUserId(long userId);
+
+    /**
+     * 전체 사용자의 포인트 내역을 한 건씩 읽는 Iterator (사용자별로 묶어서 저장 순서)
+     * @return
+     */
+    Iterator<PointHistory> iterateAll();
+
+    /**
+     * 사용자의 포인트 내역 집계 (충전/사용 합계, 건수, 첫/마지막 처리 시각)
+     * - 기본 구현은 사용자의 내역을 모두 읽어 계산한다. (O(해당 사용자 내역 수))
+     *   AggregatingPointHistoryRepository 는 저장 시 갱신한 집계를 O(1) 로 반환한다.
+     * @param userId 사용자 ID
+     * @return
+     */
+    default PointSummary summarize(long userId) {
+        PointSummary summary = PointSummary.empty(userId);
+        Iterator<PointHistory> histories = iterateByUserId(userId);
+        while (histories.hasNext()) {
+            PointHistory pointHistory = histories.next();
+            summary = summary.add(pointHistory.type(), pointHistory.amount(), pointHistory.updateMillis());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 디스크 내역 저장 형식 (point.storage.enabled=true 일 때)
+ * - WAL : write-ahead log 에 append 하고, 조회용 사용자별 인덱스는 heap 에 둔다. (기본값)
+ * - MAPPED : 컬럼별 고정 폭 배열을 memory-mapped segment 파일에 쓰고, heap 에는 사용자별 첫/마지막 위치만 둔다.
+ */
+public enum PointHistoryStorageFormat {
+    WAL, MAPPED
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 포인트 내역 저장 방식
+ * - SYNC : 호출 스레드가 바로 저장한다. (기본값)
+ * - GROUP_COMMIT : 큐에 넣고 백그라운드 flusher 가 묶어서 저장할 때까지 기다린다.
+ * - ASYNC : 큐에 넣고 바로 반환한다. 저장은 백그라운드 flusher 가 나중에 한다.
+ */
+public enum PointHistoryWriteMode {
+    SYNC, GROUP_COMMIT, ASYNC
+}
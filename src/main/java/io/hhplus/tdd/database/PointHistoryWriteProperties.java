@@ -0,0 +1,22 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 저장 설정 (point.history.write.*)
+ * @param mode 저장 방식
+ * @param queueCapacity 저장 대기 큐 크기 (가득 차면 insert 호출이 블록된다)
+ * @param batchSize flusher 가 한 번에 저장하는 최대 건수
+ * @param flushInterval 큐가 비어 있을 때 flusher 가 대기하는 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.history.write")
+public record PointHistoryWriteProperties(
+        @DefaultValue("SYNC") PointHistoryWriteMode mode,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10ms") Duration flushInterval
+) {
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 잔액/내역 디스크 저장 설정 (point.storage.*)
+ * @param enabled true 면 잔액과 내역을 write-ahead log 로 디스크에 저장하고 시작 시 복구한다.
+ * @param directory log/snapshot 파일을 두는 로컬 디렉터리
+ * @param fsyncInterval fsync 주기 (0 이면 쓰기마다 바로 fsync, 동시에 들어온 쓰기는 한 번의 fsync 로 묶인다)
+ * @param snapshotInterval 잔액 snapshot 주기 (0 이면 주기적으로 찍지 않는다)
+ * @param historyFormat 내역 저장 형식
+ * @param historySegmentRows MAPPED 형식에서 segment 파일 하나에 담는 내역 수
+ */
+@ConfigurationProperties(prefix = "point.storage")
+public record PointStorageProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data") Path directory,
+        @DefaultValue("2ms") Duration fsyncInterval,
+        @DefaultValue("1m") Duration snapshotInterval,
+        @DefaultValue("WAL") PointHistoryStorageFormat historyFormat,
+        @DefaultValue("1048576") int historySegmentRows
+) {
+
+    /**
+     * 내역이 건별로 fsync 되는지 여부
+     * - MAPPED 형식은 종료 시에만 force 하므로, 비정상 종료 후에는 fsync 된 잔액보다 내역이 덜 남아 있을 수 있다.
+     */
+    public boolean durableHistory() {
+        return historyFormat == PointHistoryStorageFormat.WAL;
+    }
+
+    /**
+     * 저장 디렉터리만 바꾼 설정 (sharded 모드의 shard 별 디렉터리)
+     */
+    public PointStorageProperties withDirectory(Path directory) {
+        return new PointStorageProperties(enabled, directory, fsyncInterval, snapshotInterval, historyFormat, historySegmentRows);
+    }
+}
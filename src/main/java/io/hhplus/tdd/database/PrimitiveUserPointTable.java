@@ -0,0 +1,219 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 기본형 배열 기반 UserPointTable (point.table.type=primitive)
+ * - 사용자 ID 는 open addressing(linear probing) 해시 테이블의 long[] 키 배열에 두고,
+ *   잔액/cost/updateMillis 는 같은 위치의 long[] 배열에 나눠 저장한다.
+ *   HashMap<Long, UserPoint> 의 Long 키, Node, UserPoint 객체가 없으므로 사용자당 메모리가 줄고, 갱신 시 객체를 만들지 않는다.
+ * - UserPoint 는 조회/저장 결과를 반환할 때만 만든다.
+ * - 쓰기는 StampedLock 쓰기 락으로 직렬화하고, 읽기는 낙관적 읽기로 락 없이 수행한다. (검증에 실패하면 읽기 락으로 다시 읽는다)
+ * - 원본 UserPointTable 과 달리 throttle 하지 않는다.
+ */
+public class PrimitiveUserPointTable extends UserPointTable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double MAX_LOAD = 0.7;
+
+    // 빈 슬롯 표시. 이 값을 ID 로 쓰는 사용자는 배열 마지막 칸(capacity 번째)에 따로 둔다.
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final StampedLock lock = new StampedLock();
+
+    // 아래 배열은 쓰기 락 안에서만 바뀌고, 크기가 늘 때는 새 배열로 교체된다.
+    private long[] keys;
+    private long[] points;
+    private long[] costs;
+    private long[] updateMillis;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey;
+
+    public PrimitiveUserPointTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedUsers 예상 사용자 수 (이만큼은 배열을 늘리지 않고 저장한다)
+     */
+    public PrimitiveUserPointTable(int expectedUsers) {
+        allocate(capacityFor(expectedUsers));
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = read(id);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                userPoint = read(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount, long cost) {
+        long millis = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotForWrite(id);
+            points[slot] = amount;
+            costs[slot] = cost;
+            updateMillis[slot] = millis;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, amount, millis, cost);
+    }
+
+    /**
+     * 저장된 사용자 수
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 사용자 조회 (없으면 null)
+     * - 낙관적 읽기 중에는 배열이 교체될 수 있으므로 배열 참조를 먼저 지역 변수로 읽고, 탐색 횟수를 배열 크기로 제한한다.
+     */
+    private UserPoint read(long id) {
+        long[] keys = this.keys;
+        long[] points = this.points;
+        long[] costs = this.costs;
+        long[] updateMillis = this.updateMillis;
+        int mask = this.mask;
+        int length = mask + 2;
+        if (keys.length != length || points.length != length || costs.length != length || updateMillis.length != length) {
+            // 배열 교체 중에 읽음 (validate 에서 다시 읽는다)
+            return null;
+        }
+
+        int slot;
+        if (id == EMPTY) {
+            if (!hasEmptyKey) {
+                return null;
+            }
+            slot = mask + 1;
+        } else {
+            slot = find(keys, mask, id);
+            if (slot < 0) {
+                return null;
+            }
+        }
+        return new UserPoint(id, points[slot], updateMillis[slot], costs[slot]);
+    }
+
+    /**
+     * 쓸 슬롯을 찾고, 없으면 새로 만든다. (쓰기 락 안에서 호출)
+     */
+    private int slotForWrite(long id) {
+        if (id == EMPTY) {
+            hasEmptyKey = true;
+            return mask + 1;
+        }
+        int slot = find(keys, mask, id);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size + 1 > (mask + 1) * MAX_LOAD) {
+            resize();
+        }
+        slot = probe(keys, mask, id);
+        keys[slot] = id;
+        size++;
+        return slot;
+    }
+
+    /**
+     * id 가 저장된 슬롯 (없으면 -1)
+     */
+    private static int find(long[] keys, int mask, long id) {
+        int slot = hash(id) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            long key = keys[slot];
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * id 가 들어갈 빈 슬롯 (id 가 없는 것이 확인된 뒤에 호출)
+     */
+    private static int probe(long[] keys, int mask, long id) {
+        int slot = hash(id) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldPoints = points;
+        long[] oldCosts = costs;
+        long[] oldMillis = updateMillis;
+        int oldCapacity = mask + 1;
+
+        allocate(oldCapacity * 2);
+        for (int i = 0; i < oldCapacity; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = probe(keys, mask, key);
+                keys[slot] = key;
+                points[slot] = oldPoints[i];
+                costs[slot] = oldCosts[i];
+                updateMillis[slot] = oldMillis[i];
+            }
+        }
+        // ID 가 EMPTY 인 사용자 칸
+        points[mask + 1] = oldPoints[oldCapacity];
+        costs[mask + 1] = oldCosts[oldCapacity];
+        updateMillis[mask + 1] = oldMillis[oldCapacity];
+    }
+
+    private void allocate(int capacity) {
+        long[] keys = new long[capacity + 1];
+        Arrays.fill(keys, EMPTY);
+        this.points = new long[capacity + 1];
+        this.costs = new long[capacity + 1];
+        this.updateMillis = new long[capacity + 1];
+        this.mask = capacity - 1;
+        this.keys = keys;
+    }
+
+    private static int capacityFor(int expectedUsers) {
+        long required = (long) Math.ceil(Math.max(1, expectedUsers) / MAX_LOAD);
+        return (int) Math.max(DEFAULT_CAPACITY, Long.highestOneBit(required - 1) << 1);
+    }
+
+    // 연속된 ID 가 인접 슬롯에 몰리지 않도록 섞는다. (Murmur3 finalizer)
+    private static int hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.analytics.PointRollupEngine;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 내역을 시간대별 집계(PointRollupEngine)에 더하는 포인트 내역 저장소
+ * - 저장은 delegate 에 위임하고, 저장이 끝나면 분/시간/일 bucket 을 갱신한다.
+ * - 생성 시 delegate 에 이미 있는 내역(디스크 저장소에서 복구된 내역)을 집계에 다시 더한다.
+ */
+public class RollupPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupPointHistoryRepository.class);
+
+    private final PointHistoryRepository delegate;
+    private final PointRollupEngine rollupEngine;
+
+    public RollupPointHistoryRepository(PointHistoryRepository delegate, PointRollupEngine rollupEngine) {
+        this.delegate = delegate;
+        this.rollupEngine = rollupEngine;
+        rebuild();
+    }
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        delegate.insert(userId, amount, type, updateMillis);
+        rollupEngine.record(userId, type, amount, updateMillis);
+    }
+
+    @Override
+    public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        delegate.insertAll(userId, amounts, type, updateMillis);
+        long total = 0;
+        for (long amount : amounts) {
+            total += amount;
+        }
+        rollupEngine.recordAll(userId, type, total, amounts.size(), updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        return delegate.selectByUserId(userId, afterId, fromMillis, toMillis, limit);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return delegate.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        return delegate.iterateAll();
+    }
+
+    @Override
+    public PointSummary summarize(long userId) {
+        return delegate.summarize(userId);
+    }
+
+    /**
+     * 닫을 수 있는 delegate 를 닫는다.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.error("point history repository close failed", e);
+            }
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        long rows = 0;
+        Iterator<PointHistory> histories = delegate.iterateAll();
+        while (histories.hasNext()) {
+            PointHistory pointHistory = histories.next();
+            rollupEngine.record(pointHistory.userId(), pointHistory.type(), pointHistory.amount(), pointHistory.updateMillis());
+            rows++;
+        }
+        if (rows > 0) {
+            log.info("point history rollups rebuilt: {} rows, {}ms", rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+}
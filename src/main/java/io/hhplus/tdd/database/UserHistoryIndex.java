@@ -0,0 +1,236 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 한 사용자의 포인트 내역만 담는 append-only 인덱스
+ * - 레코드를 (id, amount, type, updateMillis) 4개의 long 으로 청크 배열에 이어 붙인다.
+ * - 청크는 8건부터 1024건까지 두 배씩 커지므로 내역이 적은 사용자는 메모리를 적게 쓰고,
+ *   내역이 많은 사용자도 기존 배열을 복사하지 않는다.
+ * - 쓰기는 한 번에 한 스레드만, 읽기는 락 없이 동시에 수행할 수 있다.
+ */
+final class UserHistoryIndex {
+
+    private static final int FIELDS = 4;
+    private static final int ID = 0;
+    private static final int AMOUNT = 1;
+    private static final int TYPE = 2;
+    private static final int MILLIS = 3;
+
+    private static final int MIN_CHUNK_CAPACITY = 8;
+    private static final int MAX_CHUNK_CAPACITY = 1024;
+    private static final int MAX_GROWTH_STEP = Integer.numberOfTrailingZeros(MAX_CHUNK_CAPACITY / MIN_CHUNK_CAPACITY);
+    // 크기가 커지는 구간(0 ~ MAX_GROWTH_STEP-1 번 청크)에 들어가는 레코드 수
+    private static final int GROWING_CHUNKS_CAPACITY = MIN_CHUNK_CAPACITY * ((1 << MAX_GROWTH_STEP) - 1);
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long userId;
+
+    // 읽기 스레드는 size -> chunks 순서로 읽으므로 size 까지의 레코드는 항상 완성된 상태로 보인다.
+    private volatile long[][] chunks = new long[0][];
+    private volatile int size;
+    // updateMillis 가 저장 순서대로 증가하는 동안 true (시간 범위 조회 시 이진 탐색 가능 여부)
+    private volatile boolean millisOrdered = true;
+
+    // 쓰기 스레드 전용 상태
+    private int chunkCount;
+    private int tailSize;
+    private long lastMillis = Long.MIN_VALUE;
+
+    UserHistoryIndex(long userId) {
+        this.userId = userId;
+    }
+
+    static int capacity(int chunk) {
+        return chunk >= MAX_GROWTH_STEP ? MAX_CHUNK_CAPACITY : MIN_CHUNK_CAPACITY << chunk;
+    }
+
+    static int chunkOf(int position) {
+        if (position >= GROWING_CHUNKS_CAPACITY) {
+            return MAX_GROWTH_STEP + (position - GROWING_CHUNKS_CAPACITY) / MAX_CHUNK_CAPACITY;
+        }
+        return 31 - Integer.numberOfLeadingZeros(position / MIN_CHUNK_CAPACITY + 1);
+    }
+
+    static int chunkStart(int chunk) {
+        if (chunk >= MAX_GROWTH_STEP) {
+            return GROWING_CHUNKS_CAPACITY + (chunk - MAX_GROWTH_STEP) * MAX_CHUNK_CAPACITY;
+        }
+        return MIN_CHUNK_CAPACITY * ((1 << chunk) - 1);
+    }
+
+    synchronized void append(PointHistory pointHistory) {
+        long[][] current = chunks;
+        if (chunkCount == 0 || tailSize == capacity(chunkCount - 1)) {
+            if (chunkCount == current.length) {
+                current = Arrays.copyOf(current, Math.max(4, current.length * 2));
+            }
+            current[chunkCount] = new long[capacity(chunkCount) * FIELDS];
+            chunkCount++;
+            tailSize = 0;
+            chunks = current;
+        }
+
+        long[] tail = current[chunkCount - 1];
+        int offset = tailSize * FIELDS;
+        tail[offset + ID] = pointHistory.id();
+        tail[offset + AMOUNT] = pointHistory.amount();
+        tail[offset + TYPE] = pointHistory.type().ordinal();
+        tail[offset + MILLIS] = pointHistory.updateMillis();
+        tailSize++;
+
+        if (pointHistory.updateMillis() < lastMillis) {
+            millisOrdered = false;
+        }
+        lastMillis = pointHistory.updateMillis();
+        size = size + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<PointHistory> toList() {
+        int total = size;
+        long[][] snapshot = chunks;
+
+        List<PointHistory> result = new ArrayList<>(total);
+        int remaining = total;
+        for (int chunk = 0; remaining > 0; chunk++) {
+            long[] records = snapshot[chunk];
+            int count = Math.min(remaining, capacity(chunk));
+            for (int i = 0; i < count; i++) {
+                result.add(read(records, i));
+            }
+            remaining -= count;
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * id 기준 키셋 페이지 조회
+     * - afterId 보다 큰 id 의 내역 중 updateMillis 가 [fromMillis, toMillis) 인 내역을 최대 limit 건 반환한다.
+     * - 시작 위치는 id 이진 탐색으로 찾으므로 전체 목록을 만들지 않고 limit 건만 할당한다.
+     */
+    List<PointHistory> page(long afterId, long fromMillis, long toMillis, int limit) {
+        int total = size;
+        boolean ordered = millisOrdered;
+        long[][] snapshot = chunks;
+
+        int start = firstGreaterThan(snapshot, total, ID, afterId);
+        if (ordered && fromMillis != Long.MIN_VALUE) {
+            start = Math.max(start, firstGreaterThan(snapshot, total, MILLIS, fromMillis - 1));
+        }
+
+        List<PointHistory> result = new ArrayList<>(Math.max(0, Math.min(limit, total - start)));
+        for (int position = start; position < total && result.size() < limit; position++) {
+            long millis = field(snapshot, position, MILLIS);
+            if (millis >= toMillis) {
+                if (ordered) {
+                    break;
+                }
+                continue;
+            }
+            if (millis < fromMillis) {
+                continue;
+            }
+            result.add(read(snapshot, position));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 생성 시점까지 저장된 내역을 한 건씩 읽는 Iterator
+     * - 내역을 미리 목록으로 만들지 않으므로 내역 수와 관계없이 메모리 사용량이 일정하다.
+     */
+    Iterator<PointHistory> iterator() {
+        int total = size;
+        long[][] snapshot = chunks;
+        return new Iterator<>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < total;
+            }
+
+            @Override
+            public PointHistory next() {
+                if (position >= total) {
+                    throw new NoSuchElementException();
+                }
+                return read(snapshot, position++);
+            }
+        };
+    }
+
+    /**
+     * 여러 사용자 인덱스를 이어서 한 건씩 읽는 Iterator (사용자별로 묶어서 저장 순서)
+     */
+    static Iterator<PointHistory> concat(Iterator<UserHistoryIndex> indexes) {
+        return new Iterator<>() {
+            private Iterator<PointHistory> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && indexes.hasNext()) {
+                    current = indexes.next().iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public PointHistory next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    // field 값이 key 보다 큰 첫 위치 (값이 저장 순서대로 증가한다고 가정)
+    private int firstGreaterThan(long[][] snapshot, int total, int field, long key) {
+        int low = 0;
+        int high = total;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (field(snapshot, mid, field) > key) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private long field(long[][] snapshot, int position, int field) {
+        int chunk = chunkOf(position);
+        return snapshot[chunk][(position - chunkStart(chunk)) * FIELDS + field];
+    }
+
+    private PointHistory read(long[][] snapshot, int position) {
+        int chunk = chunkOf(position);
+        return read(snapshot[chunk], position - chunkStart(chunk));
+    }
+
+    private PointHistory read(long[] records, int index) {
+        int offset = index * FIELDS;
+        return new PointHistory(
+                records[offset + ID],
+                userId,
+                records[offset + AMOUNT],
+                TYPES[(int) records[offset + TYPE]],
+                records[offset + MILLIS]
+        );
+    }
+}
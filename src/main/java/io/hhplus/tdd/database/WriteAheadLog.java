@@ -0,0 +1,357 @@
+package io.hhplus.tdd.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 고정 길이 레코드를 이어 붙이는 바이너리 write-ahead log
+ * - 레코드 형식: [CRC32(int)][payload(recordSize 바이트)]
+ * - append 는 메모리 버퍼에 쓰기만 하고 끝 위치를 돌려준다. sync(위치) 가 버퍼를 FileChannel 에 쓰고 fsync 한다.
+ * - fsyncInterval 이 0 이면 sync 를 호출한 스레드가 바로 fsync 하고, 그동안 들어온 다른 호출자는 그 fsync 로 함께 완료된다.
+ *   0 보다 크면 백그라운드 스레드가 주기마다 한 번 fsync 하고, sync 호출자는 자기 레코드가 포함된 fsync 를 기다린다.
+ * - open 시 기존 레코드를 순서대로 replay 하고, CRC 가 맞지 않거나 잘린 레코드(쓰는 도중 종료된 경우)부터는 잘라낸다.
+ * - 파일 쓰기나 fsync 가 한 번이라도 실패하면 log 를 실패 상태로 두고 이후 append/sync 는 모두 예외를 던진다.
+ *   (버퍼의 레코드가 파일에 썼는지 알 수 없으므로 다음 fsync 로 유실된 레코드를 저장된 것처럼 완료하지 않는다)
+ * - 파일 쓰기와 fsync 대기는 synchronized 대신 ReentrantLock/Condition 으로 보호한다.
+ *   (synchronized 안에서 블록되면 가상 스레드가 carrier 스레드에 고정(pinning)되므로)
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int frameSize;
+    private final long fsyncIntervalNanos;
+
+    // append 상태 (appendLock 으로 보호)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long appendedPosition;
+
+    // fsync 상태 (syncLock 으로 보호, syncedPosition 은 락 없이 읽는다)
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long syncedPosition;
+    private volatile boolean closed;
+    private final Thread syncer;
+    private volatile boolean syncing = true;
+
+    // append 허용 여부 (appendLock 으로 보호)
+    private boolean open = true;
+
+    // 처음 실패한 파일 쓰기/fsync 예외 (null 이 아니면 이후 append/sync 는 모두 실패)
+    private volatile IOException failure;
+
+    private WriteAheadLog(Path file, FileChannel channel, int recordSize, Duration fsyncInterval, long position) {
+        this.file = file;
+        this.channel = channel;
+        this.frameSize = HEADER_SIZE + recordSize;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.appendedPosition = position;
+        this.syncedPosition = position;
+        if (fsyncIntervalNanos > 0) {
+            this.syncer = new Thread(this::runSyncer, "point-wal-sync-" + file.getFileName());
+            this.syncer.setDaemon(true);
+            this.syncer.start();
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    /**
+     * log 파일을 열어 기존 레코드를 replay 한 뒤, 유효한 마지막 레코드 뒤부터 이어 쓴다.
+     * @param file log 파일 (없으면 생성)
+     * @param recordSize 레코드 payload 크기
+     * @param fsyncInterval fsync 주기 (0 이면 sync 호출 시 바로 fsync)
+     * @param replay 기존 레코드 payload 를 받는 함수 (읽기 전용 버퍼)
+     * @return
+     */
+    public static WriteAheadLog open(Path file, int recordSize, Duration fsyncInterval, Consumer<ByteBuffer> replay) throws IOException {
+        return open(file, FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE),
+                recordSize, fsyncInterval, replay);
+    }
+
+    /**
+     * 이미 연 channel 로 log 를 연다. (테스트에서 실패하는 channel 을 넣을 때 사용)
+     */
+    static WriteAheadLog open(Path file, FileChannel channel, int recordSize, Duration fsyncInterval, Consumer<ByteBuffer> replay) throws IOException {
+        try {
+            long validEnd = replay(channel, recordSize, replay);
+            if (validEnd < channel.size()) {
+                log.warn("truncating torn tail of {}: {} -> {} bytes", file, channel.size(), validEnd);
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+            channel.position(validEnd);
+            return new WriteAheadLog(file, channel, recordSize, fsyncInterval, validEnd);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * log 파일의 레코드를 append 없이 읽기만 한다.
+     * @return 읽은 레코드 수
+     */
+    public static long read(Path file, int recordSize, Consumer<ByteBuffer> replay) throws IOException {
+        if (Files.notExists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return replay(channel, recordSize, replay) / (HEADER_SIZE + recordSize);
+        }
+    }
+
+    /**
+     * 레코드 한 건 append (버퍼에만 기록)
+     * @param writer payload 를 정확히 recordSize 바이트 쓰는 함수
+     * @return append 된 레코드의 끝 위치 (sync 에 넘긴다)
+     */
+    public long append(Consumer<ByteBuffer> writer) {
+        appendLock.lock();
+        try {
+            if (!open) {
+                throw new IllegalStateException("write-ahead log is closed: " + file);
+            }
+            checkNotFailed();
+            if (buffer.remaining() < frameSize) {
+                writeBuffer();
+            }
+            int start = buffer.position();
+            buffer.position(start + HEADER_SIZE);
+            writer.accept(buffer);
+            if (buffer.position() != start + frameSize) {
+                throw new IllegalStateException("record size mismatch: expected " + (frameSize - HEADER_SIZE) + " bytes, written " + (buffer.position() - start - HEADER_SIZE));
+            }
+            crc.reset();
+            crc.update(buffer.array(), start + HEADER_SIZE, frameSize - HEADER_SIZE);
+            buffer.putInt(start, (int) crc.getValue());
+            appendedPosition += frameSize;
+            return appendedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * position 까지의 레코드가 디스크에 fsync 될 때까지 대기
+     */
+    public void sync(long position) {
+        if (syncedPosition >= position) {
+            return;
+        }
+        checkNotFailed();
+        if (syncer == null) {
+            flushAndForce();
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (syncedPosition < position) {
+                checkNotFailed();
+                if (closed) {
+                    throw new IllegalStateException("write-ahead log is closed: " + file);
+                }
+                try {
+                    synced.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted while waiting for fsync: " + file, e);
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * append 된 레코드 끝 위치 (파일 크기)
+     */
+    public long size() {
+        appendLock.lock();
+        try {
+            return appendedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 남은 레코드를 모두 fsync 한 뒤 닫는다.
+     */
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (!open) {
+                return;
+            }
+            open = false;
+        } finally {
+            appendLock.unlock();
+        }
+        if (syncer != null) {
+            // FileChannel 은 interrupt 되면 닫히므로 interrupt 대신 flag 로 종료한다.
+            syncing = false;
+            LockSupport.unpark(syncer);
+            try {
+                syncer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            if (failure == null) {
+                flushAndForce();
+            }
+        } finally {
+            syncLock.lock();
+            try {
+                closed = true;
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("write-ahead log close failed: {}", file, e);
+            }
+        }
+    }
+
+    private void runSyncer() {
+        while (syncing) {
+            LockSupport.parkNanos(fsyncIntervalNanos);
+            if (failure != null) {
+                return;
+            }
+            try {
+                flushAndForce();
+            } catch (RuntimeException e) {
+                log.error("write-ahead log fsync failed: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 남은 레코드를 파일에 쓰고 fsync 한다.
+     * - syncLock 을 잡는 동안 들어온 append 는 다음 fsync 에 포함된다.
+     * - 쓰기/fsync 가 실패하면 log 를 실패 상태로 바꾸고 기다리던 sync 호출자를 모두 깨워 실패시킨다.
+     */
+    private void flushAndForce() {
+        syncLock.lock();
+        try {
+            checkNotFailed();
+            long target;
+            appendLock.lock();
+            try {
+                target = appendedPosition;
+                if (target <= syncedPosition) {
+                    return;
+                }
+                writeBuffer();
+            } finally {
+                appendLock.unlock();
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw fail(e);
+            }
+            syncedPosition = target;
+            synced.signalAll();
+        } catch (UncheckedIOException e) {
+            synced.signalAll();
+            throw e;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼의 레코드를 파일에 쓴다. (appendLock 을 잡은 채로 호출)
+     * - 실패하면 일부만 썼을 수 있으므로 버퍼를 비우지 않고 log 를 실패 상태로 바꾼다.
+     */
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        buffer.clear();
+    }
+
+    private UncheckedIOException fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            log.error("write-ahead log failed, rejecting further appends: {}", file, e);
+        }
+        return new UncheckedIOException("write-ahead log failed: " + file, e);
+    }
+
+    private void checkNotFailed() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new UncheckedIOException("write-ahead log failed: " + file, cause);
+        }
+    }
+
+    /**
+     * 처음부터 레코드를 읽어 replay 하고, 유효한 마지막 레코드의 끝 위치를 반환한다.
+     */
+    private static long replay(FileChannel channel, int recordSize, Consumer<ByteBuffer> replay) throws IOException {
+        int frameSize = HEADER_SIZE + recordSize;
+        ByteBuffer chunk = ByteBuffer.allocate(Math.max(BUFFER_SIZE, frameSize));
+        CRC32 crc = new CRC32();
+        long validEnd = 0;
+        long readPosition = 0;
+        while (true) {
+            int read = channel.read(chunk, readPosition);
+            if (read > 0) {
+                readPosition += read;
+            }
+            chunk.flip();
+            while (chunk.remaining() >= frameSize) {
+                int start = chunk.position();
+                int expected = chunk.getInt(start);
+                crc.reset();
+                crc.update(chunk.array(), start + HEADER_SIZE, recordSize);
+                if ((int) crc.getValue() != expected) {
+                    return validEnd;
+                }
+                replay.accept(chunk.slice(start + HEADER_SIZE, recordSize).asReadOnlyBuffer());
+                chunk.position(start + frameSize);
+                validEnd += frameSize;
+            }
+            chunk.compact();
+            if (read <= 0) {
+                // 남은 바이트는 잘린 레코드
+                return validEnd;
+            }
+        }
+    }
+}
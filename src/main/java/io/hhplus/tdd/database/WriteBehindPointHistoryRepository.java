@@ -0,0 +1,277 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 내역 write-behind 저장소
+ * - insert 는 내역을 bounded 큐에 넣기만 하고, 백그라운드 flusher 스레드가 큐를 batch 단위로 비워 delegate 에 저장한다.
+ *   따라서 충전/사용 시 사용자 Lock 을 잡은 채로 PointHistoryTable.insert 를 기다리지 않는다.
+ * - flusher 는 한 스레드이므로 큐에 넣은 순서(= 사용자별 처리 순서)대로 저장된다.
+ * - 큐가 가득 차면 insert 가 블록되어 자연스럽게 유입 속도를 늦춘다.
+ * - close() 시 큐에 남은 내역을 모두 저장한 뒤 종료하므로 애플리케이션 종료 시 내역이 유실되지 않는다.
+ *   큐 적재와 종료는 closeLock 으로 배타적이므로, 종료 시작 뒤에 들어온 내역은 큐를 거치지 않고 바로 저장된다.
+ * - ASYNC 모드에서는 flush 전까지 조회 결과에 내역이 보이지 않을 수 있다.
+ */
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindPointHistoryRepository.class);
+
+    private final PointHistoryRepository delegate;
+    private final PointHistoryWriteMode mode;
+    private final BlockingQueue<PendingHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    // 큐 적재(read)와 종료 시작(write)을 배타적으로 처리 (running 확인과 queue.put 사이에 종료되지 않도록)
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    // flush 지표
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+
+    public WriteBehindPointHistoryRepository(PointHistoryRepository delegate, PointHistoryWriteProperties properties) {
+        if (properties.mode() == PointHistoryWriteMode.SYNC) {
+            throw new IllegalArgumentException("write-behind 저장소는 GROUP_COMMIT 또는 ASYNC 모드에서만 사용합니다.");
+        }
+        this.delegate = delegate;
+        this.mode = properties.mode();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.batchSize = properties.batchSize();
+        this.flushIntervalMillis = properties.flushInterval().toMillis();
+        this.flusher = new Thread(this::runFlusher, "point-history-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+        CompletableFuture<Void> committed = enqueue(userId, amount, type, updateMillis);
+        if (committed != null) {
+            committed.join();
+        }
+    }
+
+    /**
+     * 여러 건을 모두 큐에 넣은 뒤, GROUP_COMMIT 모드에서는 한 번에 저장 완료를 기다린다.
+     * (건마다 넣고 기다리지 않으므로 같은 batch 로 저장될 수 있다)
+     */
+    @Override
+    public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+        List<CompletableFuture<Void>> committed = new ArrayList<>(amounts.size());
+        for (long amount : amounts) {
+            CompletableFuture<Void> pending = enqueue(userId, amount, type, updateMillis);
+            if (pending != null) {
+                committed.add(pending);
+            }
+        }
+        CompletableFuture.allOf(committed.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 내역을 큐에 넣는다.
+     * @return GROUP_COMMIT 모드에서 저장 완료 시 완료되는 future (그 외 null)
+     */
+    private CompletableFuture<Void> enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+        closeLock.readLock().lock();
+        try {
+            if (running) {
+                CompletableFuture<Void> committed = mode == PointHistoryWriteMode.GROUP_COMMIT ? new CompletableFuture<>() : null;
+                // 큐가 가득 차도 flusher 는 closeLock 없이 계속 비우므로 put 은 끝난다.
+                queue.put(new PendingHistory(userId, amount, type, updateMillis, committed));
+                enqueued.increment();
+                return committed;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+
+        // 종료 중이거나 대기 중 인터럽트된 내역은 큐를 거치지 않고 바로 저장한다.
+        delegate.insert(userId, amount, type, updateMillis);
+        return null;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+        return delegate.selectByUserId(userId, afterId, fromMillis, toMillis, limit);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return delegate.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAll() {
+        return delegate.iterateAll();
+    }
+
+    public Stats stats() {
+        return new Stats(
+                mode,
+                queue.size(),
+                enqueued.sum(),
+                flushed.sum(),
+                failed.sum(),
+                batches.sum(),
+                lastBatchSize.get(),
+                TimeUnit.NANOSECONDS.toMillis(lastFlushNanos.get())
+        );
+    }
+
+    /**
+     * 큐에 남은 내역을 모두 저장할 때까지 기다린 뒤 flusher 를 종료한다.
+     * - flusher 종료 뒤에도 큐에 남은 내역은 직접 저장하고, flusher 를 기다리다 인터럽트되면
+     *   남은 내역의 저장 완료 future 를 실패로 끝내 GROUP_COMMIT 호출자가 영원히 기다리지 않게 한다.
+     * - delegate 가 닫을 수 있는 저장소(디스크 저장소 등)면 함께 닫는다.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        boolean flusherStopped = true;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusherStopped = false;
+        }
+
+        List<PendingHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (flusherStopped) {
+            flush(remaining);
+        } else {
+            failAll(remaining, new IllegalStateException("point history write-behind closed before flush"));
+        }
+        log.info("point history write-behind closed: {}", stats());
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.error("point history delegate close failed", e);
+            }
+        }
+    }
+
+    private void runFlusher() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException ignored) {
+
+            } catch (Throwable e) {
+                // 예상하지 못한 오류로 flusher 가 멈추면 이번 batch 를 기다리는 호출자를 실패로 깨운다.
+                failAll(batch, e);
+                throw e;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void failAll(List<PendingHistory> pendings, Throwable cause) {
+        for (PendingHistory pending : pendings) {
+            failed.increment();
+            if (pending.committed() != null) {
+                pending.committed().completeExceptionally(cause);
+            }
+        }
+    }
+
+    private void flush(List<PendingHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (PendingHistory pending : batch) {
+            try {
+                delegate.insert(pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+                flushed.increment();
+                if (pending.committed() != null) {
+                    pending.committed().complete(null);
+                }
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("point history flush failed: userId={}, amount={}, type={}", pending.userId(), pending.amount(), pending.type(), e);
+                if (pending.committed() != null) {
+                    pending.committed().completeExceptionally(e);
+                }
+            }
+        }
+        batches.increment();
+        lastBatchSize.set(batch.size());
+        lastFlushNanos.set(System.nanoTime() - start);
+    }
+
+    private record PendingHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis,
+            CompletableFuture<Void> committed
+    ) {
+    }
+
+    /**
+     * write-behind 지표
+     * @param mode 저장 방식
+     * @param queueSize 현재 저장 대기 건수
+     * @param enqueued 누적 큐 적재 건수
+     * @param flushed 누적 저장 건수
+     * @param failed 누적 저장 실패 건수
+     * @param batches 누적 flush 횟수
+     * @param lastBatchSize 마지막 flush 건수
+     * @param lastFlushMillis 마지막 flush 소요 시간
+     */
+    public record Stats(
+            PointHistoryWriteMode mode,
+            int queueSize,
+            long enqueued,
+            long flushed,
+            long failed,
+            long batches,
+            long lastBatchSize,
+            long lastFlushMillis
+    ) {
+    }
+}
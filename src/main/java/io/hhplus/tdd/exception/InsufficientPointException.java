@@ -0,0 +1,32 @@
+package io.hhplus.tdd.exception;
+
+/**
+ * 포인트 부족 및 포인트 정책 위반 시 발생하는 예외
+ */
+public class InsufficientPointException extends RuntimeException {
+
+    /**
+     * 거절 사유 (지표 집계용)
+     */
+    public enum Reason {
+        // 정책1: 100만원 이상 충전
+        CHARGE_LIMIT_EXCEEDED,
+        // 잔액 부족
+        INSUFFICIENT_BALANCE,
+        // 정책2: 10000원 이하 결제
+        COST_TOO_LOW,
+        // 정책3: 결제 금액의 50% 초과 사용
+        USE_RATIO_EXCEEDED
+    }
+
+    private final Reason reason;
+
+    public InsufficientPointException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.exception;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한(token bucket)을 넘었을 때 발생하는 예외 (429)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * 제한 범위 (지표 집계용)
+     */
+    public enum Scope {
+        // 사용자별 제한
+        USER,
+        // 전체 제한
+        GLOBAL
+    }
+
+    private final Scope scope;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Scope scope, Duration retryAfter) {
+        super(scope == Scope.USER
+                ? "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+                : "서버 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        this.scope = scope;
+        this.retryAfter = retryAfter;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
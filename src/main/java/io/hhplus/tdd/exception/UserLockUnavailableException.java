@@ -0,0 +1,29 @@
+package io.hhplus.tdd.exception;
+
+/**
+ * 사용자 Lock 을 제한 시간 안에 얻지 못했거나 대기 요청이 너무 많아 거절할 때 발생하는 예외 (503)
+ * - 잔액/내역은 바뀌지 않았으므로 잠시 후 다시 요청하면 된다.
+ */
+public class UserLockUnavailableException extends RuntimeException {
+
+    /**
+     * 거절 사유 (지표 집계용)
+     */
+    public enum Reason {
+        // 사용자당 대기 요청 수 초과 (기다리지 않고 거절)
+        QUEUE_FULL,
+        // Lock 대기 시간 초과 (대기 중 interrupt 포함)
+        TIMEOUT
+    }
+
+    private final Reason reason;
+
+    public UserLockUnavailableException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
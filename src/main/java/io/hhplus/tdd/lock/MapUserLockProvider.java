@@ -0,0 +1,33 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자마다 ReentrantLock 을 하나씩 만들어 ConcurrentHashMap 에 보관한다.
+ * - 한 번 만든 Lock 은 제거하지 않으므로 사용자 수만큼 메모리를 사용한다.
+ */
+public class MapUserLockProvider implements UserLockProvider {
+
+    private final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    public MapUserLockProvider() {
+        this(false);
+    }
+
+    public MapUserLockProvider(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public Lock getLock(long userId) {
+        return userLocks.computeIfAbsent(userId, id -> new ReentrantLock(fair));
+    }
+
+    @Override
+    public int size() {
+        return userLocks.size();
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용 중인 사용자의 Lock 만 유지하는 참조 카운트 기반 Lock 제공자
+ * - lock 을 시도하는 시점에 참조 수를 올리고, unlock(또는 획득 실패) 시점에 내린다.
+ * - 참조 수가 0 이 되면(보유/대기 중인 스레드가 없으면) map 에서 제거한다.
+ * - 참조 수 변경은 ConcurrentHashMap.compute 안에서만 하므로 같은 사용자에 대해 원자적이다.
+ * - getLock 은 호출마다 가벼운 handle 을 반환하며, handle 은 한 스레드에서 lock/unlock 한 쌍에만 사용한다.
+ */
+public class RefCountedUserLockProvider implements UserLockProvider {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    public RefCountedUserLockProvider() {
+        this(false);
+    }
+
+    public RefCountedUserLockProvider(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public Lock getLock(long userId) {
+        return new Handle(userId);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry acquire(long userId) {
+        return entries.compute(userId, (id, entry) -> {
+            Entry current = entry == null ? new Entry(new ReentrantLock(fair)) : entry;
+            current.refs++;
+            return current;
+        });
+    }
+
+    private void release(long userId) {
+        entries.computeIfPresent(userId, (id, entry) -> --entry.refs == 0 ? null : entry);
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock;
+        // compute 안에서만 변경
+        private int refs;
+
+        private Entry(ReentrantLock lock) {
+            this.lock = lock;
+        }
+    }
+
+    private final class Handle implements Lock {
+
+        private final long userId;
+        private Entry entry;
+
+        private Handle(long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void lock() {
+            entry = acquire(userId);
+            entry.lock.lock();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            entry = acquire(userId);
+            try {
+                entry.lock.lockInterruptibly();
+            } catch (InterruptedException e) {
+                release(userId);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            entry = acquire(userId);
+            if (entry.lock.tryLock()) {
+                return true;
+            }
+            release(userId);
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            entry = acquire(userId);
+            try {
+                if (entry.lock.tryLock(time, unit)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                release(userId);
+                throw e;
+            }
+            release(userId);
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            entry.lock.unlock();
+            release(userId);
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
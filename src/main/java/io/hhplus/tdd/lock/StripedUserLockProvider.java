@@ -0,0 +1,43 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 Lock 배열을 사용자 ID 해시로 나눠 쓴다.
+ * - 사용자 수와 관계없이 Lock 수(메모리)가 일정하다.
+ * - 해시가 같은 다른 사용자와 Lock 을 공유하므로 stripes 가 작으면 불필요한 대기가 생길 수 있다.
+ */
+public class StripedUserLockProvider implements UserLockProvider {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    public StripedUserLockProvider(int stripes, boolean fair) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes 는 1 이상이어야 합니다.");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock(fair);
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Lock getLock(long userId) {
+        return stripes[index(userId)];
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    int index(long userId) {
+        // 연속된 사용자 ID 가 이웃한 stripe 에 몰리지 않도록 비트를 섞는다.
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 사용자 Lock 대기 제한
+ * - 한 사용자에게 요청이 몰려도 요청 스레드가 Lock 앞에 끝없이 쌓이지 않도록,
+ *   사용자별 대기 요청 수가 maxWaiters 를 넘으면 기다리지 않고 바로 거절하고, 기다리더라도 작업별 timeout 까지만 기다린다.
+ * - 대기 요청 수는 Lock 을 기다리는 동안만 세고(Lock 을 잡거나 포기하면 뺀다), 0 이 되면 사용자 항목을 지운다.
+ * - 공정성은 Lock 자체의 설정(point.lock.fair)을 따른다. (timeout 이 있는 tryLock 도 fair Lock 의 대기 순서를 지킨다)
+ */
+public class UserLockAdmission {
+
+    private final UserLockAdmissionProperties properties;
+
+    // 사용자 ID -> Lock 을 기다리는 요청 수
+    private final ConcurrentHashMap<Long, AtomicInteger> waiters = new ConcurrentHashMap<>();
+
+    public UserLockAdmission(UserLockAdmissionProperties properties) {
+        this.properties = properties;
+    }
+
+    public static UserLockAdmission unbounded() {
+        return new UserLockAdmission(UserLockAdmissionProperties.unbounded());
+    }
+
+    /**
+     * 사용자 Lock 을 잡는다.
+     * @param operation 작업 이름 (charge, use, verify, chargeAll)
+     * @throws UserLockUnavailableException 대기 요청 수 초과 또는 대기 시간 초과
+     */
+    public void lock(long userId, Lock lock, String operation) {
+        try {
+            // 기다리지 않고 잡을 수 있으면 대기 요청 수를 세지 않는다. (timeout 이 있는 tryLock 은 fair Lock 에서 끼어들지 않는다)
+            if (lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            if (!enter(userId)) {
+                throw new UserLockUnavailableException(UserLockUnavailableException.Reason.QUEUE_FULL,
+                        "요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                Duration timeout = properties.timeoutOf(operation);
+                if (timeout.isZero()) {
+                    lock.lock();
+                } else if (!lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw timeout();
+                }
+            } finally {
+                exit(userId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw timeout();
+        }
+    }
+
+    /**
+     * Lock 을 기다리는 요청 수 (전체 사용자 합계)
+     */
+    public int waiting() {
+        int sum = 0;
+        for (AtomicInteger count : waiters.values()) {
+            sum += count.get();
+        }
+        return sum;
+    }
+
+    private boolean enter(long userId) {
+        int maxWaiters = properties.maxWaiters();
+        boolean[] entered = new boolean[1];
+        waiters.compute(userId, (id, count) -> {
+            if (count == null) {
+                count = new AtomicInteger();
+            }
+            if (maxWaiters <= 0 || count.get() < maxWaiters) {
+                count.incrementAndGet();
+                entered[0] = true;
+            }
+            return count.get() == 0 ? null : count;
+        });
+        return entered[0];
+    }
+
+    private void exit(long userId) {
+        waiters.computeIfPresent(userId, (id, count) -> count.decrementAndGet() == 0 ? null : count);
+    }
+
+    private static UserLockUnavailableException timeout() {
+        return new UserLockUnavailableException(UserLockUnavailableException.Reason.TIMEOUT,
+                "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 Lock 대기 제한 설정 (point.lock.admission.*)
+ * - timeout 은 작업별 Lock 최대 대기 시간 (0 이면 제한 없이 기다린다)
+ * @param chargeTimeout 충전
+ * @param useTimeout 사용
+ * @param verifyTimeout 잔액 검증
+ * @param chargeAllTimeout 일괄 충전의 사용자 그룹 하나
+ * @param maxWaiters 사용자당 Lock 을 기다릴 수 있는 최대 요청 수 (넘으면 기다리지 않고 바로 거절, 0 이면 제한 없음)
+ */
+@ConfigurationProperties(prefix = "point.lock.admission")
+public record UserLockAdmissionProperties(
+        @DefaultValue("3s") Duration chargeTimeout,
+        @DefaultValue("3s") Duration useTimeout,
+        @DefaultValue("3s") Duration verifyTimeout,
+        @DefaultValue("10s") Duration chargeAllTimeout,
+        @DefaultValue("32") int maxWaiters
+) {
+
+    /**
+     * 제한 없음 (기존과 같이 Lock 을 끝까지 기다린다)
+     */
+    public static UserLockAdmissionProperties unbounded() {
+        return new UserLockAdmissionProperties(Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0);
+    }
+
+    /**
+     * 작업 이름(지표 태그와 같음)별 Lock 최대 대기 시간
+     */
+    public Duration timeoutOf(String operation) {
+        return switch (operation) {
+            case "charge" -> chargeTimeout;
+            case "use" -> useTimeout;
+            case "verify" -> verifyTimeout;
+            case "chargeAll" -> chargeAllTimeout;
+            default -> throw new IllegalArgumentException("알 수 없는 작업입니다: " + operation);
+        };
+    }
+}
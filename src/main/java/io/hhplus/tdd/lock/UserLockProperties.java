@@ -0,0 +1,18 @@
+package io.hhplus.tdd.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자별 Lock 설정 (point.lock.*)
+ * @param strategy Lock 관리 전략
+ * @param stripes STRIPED 전략의 Lock 수 (2의 거듭제곱으로 올림)
+ * @param fair 공정(fair) ReentrantLock 사용 여부
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+        @DefaultValue("MAP") UserLockStrategy strategy,
+        @DefaultValue("1024") int stripes,
+        @DefaultValue("false") boolean fair
+) {
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 사용자별 Lock 제공자
+ * - 같은 사용자 ID 에 대해서는 항상 같은 Lock(또는 같은 Lock 을 공유하는 handle)을 반환한다.
+ * - 반환된 Lock 은 한 스레드에서 lock()/unlock() 을 한 쌍으로 사용한다.
+ */
+public interface UserLockProvider {
+
+    /**
+     * 사용자 ID 에 해당하는 Lock 조회
+     * @param userId 사용자 ID
+     * @return
+     */
+    Lock getLock(long userId);
+
+    /**
+     * 현재 메모리에 유지 중인 Lock 수
+     * @return
+     */
+    int size();
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 사용자별 Lock 관리 전략
+ * - MAP : 사용자마다 ReentrantLock 을 만들고 제거하지 않는다. (기존 방식)
+ * - STRIPED : 고정 크기 Lock 배열을 사용자 ID 해시로 나눠 쓴다. 메모리는 일정하지만 다른 사용자와 Lock 을 공유할 수 있다.
+ * - REF_COUNTED : 사용 중(보유/대기)인 사용자의 Lock 만 유지하고, 아무도 쓰지 않으면 제거한다.
+ */
+public enum UserLockStrategy {
+    MAP, STRIPED, REF_COUNTED;
+
+    public UserLockProvider create(UserLockProperties properties) {
+        return switch (this) {
+            case MAP -> new MapUserLockProvider(properties.fair());
+            case STRIPED -> new StripedUserLockProvider(properties.stripes(), properties.fair());
+            case REF_COUNTED -> new RefCountedUserLockProvider(properties.fair());
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 직렬 실행 큐 (Lock 대신 순서 보장)
+ * - 같은 사용자의 작업은 제출 순서대로 하나씩 실행되고, 다른 사용자의 작업은 executor 에서 병렬로 실행된다.
+ * - 제출하는 스레드는 대기하지 않고 바로 결과 future 를 받는다. (앞 작업이 끝나면 이어서 실행)
+ * - 앞 작업이 실패해도 다음 작업은 실행된다.
+ * - 사용자당 끝나지 않은 작업이 maxPending 건이면 새 작업은 큐에 넣지 않고
+ *   UserLockUnavailableException(QUEUE_FULL) 로 실패한 future 를 바로 반환한다. (503)
+ * - 사용자의 마지막 작업이 끝나면 큐에서 제거되므로 유지되는 항목 수는 작업 중인 사용자 수와 같다.
+ */
+public class UserSerialQueue {
+
+    private static final CompletableFuture<Object> DONE = CompletableFuture.completedFuture(null);
+
+    // 사용자 ID -> 마지막으로 제출된 작업과 끝나지 않은 작업 수
+    private final ConcurrentHashMap<Long, Tail> tails = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int maxPending;
+
+    /**
+     * 사용자별 대기 작업 수 제한 없이 생성
+     */
+    public UserSerialQueue(Executor executor) {
+        this(executor, 0);
+    }
+
+    /**
+     * @param maxPending 사용자당 끝나지 않은 작업 최대 수 (0 이면 제한 없음)
+     */
+    public UserSerialQueue(Executor executor, int maxPending) {
+        this.executor = executor;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 사용자 큐의 끝에 작업 추가
+     * @return 작업 결과 (작업이 던진 예외는 CompletionException 으로 감싸져 전달, 대기 작업 수 초과 시 UserLockUnavailableException 으로 실패)
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        AtomicReference<CompletableFuture<T>> submitted = new AtomicReference<>();
+        tails.compute(userId, (key, tail) -> {
+            if (tail != null && maxPending > 0 && tail.pending() >= maxPending) {
+                return tail;
+            }
+            CompletableFuture<?> previous = tail == null ? DONE : tail.last();
+            CompletableFuture<T> next = previous.handleAsync((ignored, error) -> task.get(), executor);
+            submitted.set(next);
+            return new Tail(next, tail == null ? 1 : tail.pending() + 1);
+        });
+
+        CompletableFuture<T> next = submitted.get();
+        if (next == null) {
+            return CompletableFuture.failedFuture(new UserLockUnavailableException(UserLockUnavailableException.Reason.QUEUE_FULL,
+                    "요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+        next.whenComplete((result, error) -> tails.computeIfPresent(userId,
+                (key, tail) -> tail.pending() == 1 ? null : new Tail(tail.last(), tail.pending() - 1)));
+        return next;
+    }
+
+    /**
+     * 작업이 남아 있는 사용자 수
+     */
+    public int size() {
+        return tails.size();
+    }
+
+    /**
+     * 사용자의 끝나지 않은 작업 수
+     */
+    public int pending(long userId) {
+        Tail tail = tails.get(userId);
+        return tail == null ? 0 : tail.pending();
+    }
+
+    private record Tail(CompletableFuture<?> last, int pending) {
+    }
+}
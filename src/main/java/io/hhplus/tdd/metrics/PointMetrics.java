@@ -0,0 +1,221 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.cache.SingleFlight;
+import io.hhplus.tdd.database.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.ratelimit.PointRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 포인트 서비스 지표 (Micrometer)
+ * - point.lock.wait : 사용자 Lock 획득 대기 시간 (operation 별 histogram)
+ * - point.lock.hold : 사용자 Lock 보유 시간 (operation 별 histogram)
+ * - point.table : 테이블 호출 지연 (table, operation 별 histogram)
+ * - point.policy.rejections : 정책 위반 거절 수 (reason 별)
+ * - point.lock.users : 유지 중인 사용자 Lock 수
+ * - point.lock.rejections : Lock 대기 제한으로 거절한 요청 수 (operation, reason 별)
+ * - point.cache.hits / misses / evictions, point.cache.size : 잔액 캐시 지표 (cache 별)
+ * - point.load.executions / coalesced, point.load.in_flight : 조회 합치기(SingleFlight) 지표 (load 별)
+ * - point.history.write_behind.* : 내역 write-behind 저장 지표 (repository 별)
+ * - point.rate_limit.requests : 요청 제한 결과별 요청 수 (result 별)
+ * - point.rate_limit.collisions : 사용자 bucket 칸이 부족해 제한하지 못한 요청 수
+ */
+public class PointMetrics {
+
+    private final MeterRegistry registry;
+
+    // 같은 태그의 Meter 를 매 호출마다 registry 에서 찾지 않도록 보관
+    private final Map<String, Timer> lockWaitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lockHoldTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> tableTimers = new ConcurrentHashMap<>();
+    private final Map<InsufficientPointException.Reason, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> lockRejectionCounters = new ConcurrentHashMap<>();
+
+    // load 태그 -> 등록된 SingleFlight 목록 (sharded 모드처럼 서비스가 여러 개면 합산해서 보고)
+    private final Map<String, List<SingleFlight<?, ?>>> singleFlights = new ConcurrentHashMap<>();
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 사용자 Lock 수 gauge 등록
+     */
+    public void bindUserLocks(UserLockProvider userLockProvider) {
+        Gauge.builder("point.lock.users", userLockProvider, UserLockProvider::size)
+                .description("유지 중인 사용자 Lock 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 지표 등록 (BoundedCache 가 세는 값을 읽는다)
+     * @param cache 캐시 이름 태그 (user_point, sharded 모드는 user_point.shard-{번호})
+     */
+    public void bindCache(String cache, BoundedCache<?, ?> boundedCache) {
+        FunctionCounter.builder("point.cache.hits", boundedCache, target -> target.stats().hits())
+                .description("캐시 적중 수")
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("point.cache.misses", boundedCache, target -> target.stats().misses())
+                .description("캐시 미적중 수 (만료 포함)")
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", boundedCache, target -> target.stats().evictions())
+                .description("크기 초과로 제거된 캐시 항목 수")
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("point.cache.size", boundedCache, BoundedCache::size)
+                .description("캐시 항목 수")
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    /**
+     * 조회 합치기 지표 등록 (같은 load 태그로 여러 번 등록하면 합산한다)
+     * @param load 조회 대상 태그 (user_point, point_history)
+     */
+    public void bindSingleFlight(String load, SingleFlight<?, ?> singleFlight) {
+        singleFlights.computeIfAbsent(load, key -> {
+            List<SingleFlight<?, ?>> bound = new CopyOnWriteArrayList<>();
+            FunctionCounter.builder("point.load.executions", bound, flights -> sum(flights, SingleFlight.Stats::executions))
+                    .description("실제로 실행한 조회 수")
+                    .tag("load", key)
+                    .register(registry);
+            FunctionCounter.builder("point.load.coalesced", bound, flights -> sum(flights, SingleFlight.Stats::coalesced))
+                    .description("진행 중인 조회 결과를 함께 받은 요청 수")
+                    .tag("load", key)
+                    .register(registry);
+            Gauge.builder("point.load.in_flight", bound, flights -> sum(flights, SingleFlight.Stats::inFlight))
+                    .description("진행 중인 조회 수")
+                    .tag("load", key)
+                    .register(registry);
+            return bound;
+        }).add(singleFlight);
+    }
+
+    /**
+     * 내역 write-behind 저장 지표 등록 (WriteBehindPointHistoryRepository.stats() 를 읽는다)
+     * @param repository 저장소 이름 태그 (point_history, sharded 모드는 point_history.shard-{번호})
+     */
+    public void bindHistoryWriteBehind(String repository, WriteBehindPointHistoryRepository writeBehind) {
+        writeBehindCounter("enqueued", "큐에 넣은 내역 수", repository, writeBehind, target -> target.stats().enqueued());
+        writeBehindCounter("flushed", "저장한 내역 수", repository, writeBehind, target -> target.stats().flushed());
+        writeBehindCounter("failed", "저장에 실패한 내역 수", repository, writeBehind, target -> target.stats().failed());
+        writeBehindCounter("batches", "flush 횟수", repository, writeBehind, target -> target.stats().batches());
+        Gauge.builder("point.history.write_behind.queue", writeBehind, target -> target.stats().queueSize())
+                .description("저장 대기 중인 내역 수")
+                .tag("repository", repository)
+                .register(registry);
+        Gauge.builder("point.history.write_behind.last_batch_size", writeBehind, target -> target.stats().lastBatchSize())
+                .description("마지막 flush 건수")
+                .tag("repository", repository)
+                .register(registry);
+    }
+
+    /**
+     * 요청 제한 지표 등록 (PointRateLimiter 가 세는 값을 읽는다)
+     */
+    public void bindRateLimiter(PointRateLimiter rateLimiter) {
+        rateLimitCounter("allowed", rateLimiter, limiter -> limiter.stats().allowed());
+        rateLimitCounter("user_rejected", rateLimiter, limiter -> limiter.stats().userRejected());
+        rateLimitCounter("global_rejected", rateLimiter, limiter -> limiter.stats().globalRejected());
+        FunctionCounter.builder("point.rate_limit.collisions", rateLimiter, limiter -> limiter.stats().collisions())
+                .description("사용자 bucket 칸이 부족해 제한하지 못한 요청 수")
+                .register(registry);
+    }
+
+    public void recordLockWait(String operation, long nanos) {
+        lockWaitTimers.computeIfAbsent(operation, key -> histogram("point.lock.wait", "사용자 Lock 획득 대기 시간")
+                        .tag("operation", key)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(String operation, long nanos) {
+        lockHoldTimers.computeIfAbsent(operation, key -> histogram("point.lock.hold", "사용자 Lock 보유 시간")
+                        .tag("operation", key)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 테이블 호출 지연 측정
+     * @param table 테이블 이름 (user_point, point_history)
+     * @param operation 호출 메서드 이름
+     */
+    public <T> T timeTable(String table, String operation, Supplier<T> call) {
+        return tableTimers.computeIfAbsent(table + "." + operation, key -> histogram("point.table", "테이블 호출 지연")
+                        .tag("table", table)
+                        .tag("operation", operation)
+                        .register(registry))
+                .record(call);
+    }
+
+    public void timeTable(String table, String operation, Runnable call) {
+        timeTable(table, operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public void countRejection(InsufficientPointException.Reason reason) {
+        rejectionCounters.computeIfAbsent(reason, key -> Counter.builder("point.policy.rejections")
+                        .description("정책 위반 거절 수")
+                        .tag("reason", key.name())
+                        .register(registry))
+                .increment();
+    }
+
+    public void countLockRejection(String operation, UserLockUnavailableException.Reason reason) {
+        lockRejectionCounters.computeIfAbsent(operation + "." + reason.name(), key -> Counter.builder("point.lock.rejections")
+                        .description("Lock 대기 제한으로 거절한 요청 수")
+                        .tag("operation", operation)
+                        .tag("reason", reason.name())
+                        .register(registry))
+                .increment();
+    }
+
+    private void rateLimitCounter(String result, PointRateLimiter rateLimiter, ToDoubleFunction<PointRateLimiter> count) {
+        FunctionCounter.builder("point.rate_limit.requests", rateLimiter, count)
+                .description("요청 제한 결과별 요청 수")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private void writeBehindCounter(String name, String description, String repository, WriteBehindPointHistoryRepository writeBehind,
+                                    ToDoubleFunction<WriteBehindPointHistoryRepository> count) {
+        FunctionCounter.builder("point.history.write_behind." + name, writeBehind, count)
+                .description(description)
+                .tag("repository", repository)
+                .register(registry);
+    }
+
+    private static double sum(List<SingleFlight<?, ?>> flights, ToDoubleFunction<SingleFlight.Stats> value) {
+        double total = 0;
+        for (SingleFlight<?, ?> flight : flights) {
+            total += value.applyAsDouble(flight.stats());
+        }
+        return total;
+    }
+
+    private static Timer.Builder histogram(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram();
+    }
+}
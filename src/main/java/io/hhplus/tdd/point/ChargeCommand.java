@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전 요청 항목
+ * @param userId 사용자 ID
+ * @param amount 충전 포인트
+ */
+public record ChargeCommand(
+        long userId,
+        long amount
+) {
+}
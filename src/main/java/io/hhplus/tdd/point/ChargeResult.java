@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전 결과 항목 (요청 항목과 같은 순서)
+ * @param userId 사용자 ID
+ * @param amount 충전 포인트
+ * @param success 충전 성공 여부
+ * @param point 이 항목까지 반영된 잔액 (실패 시 0)
+ * @param message 실패 사유 (성공 시 null)
+ */
+public record ChargeResult(
+        long userId,
+        long amount,
+        boolean success,
+        long point,
+        String message
+) {
+
+    public static ChargeResult success(ChargeCommand command, long point) {
+        return new ChargeResult(command.userId(), command.amount(), true, point, null);
+    }
+
+    public static ChargeResult failure(ChargeCommand command, String message) {
+        return new ChargeResult(command.userId(), command.amount(), false, 0, message);
+    }
+}
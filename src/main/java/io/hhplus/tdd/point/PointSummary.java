@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자별 포인트 내역 집계 (내역이 저장될 때마다 갱신)
+ * @param userId 사용자 ID
+ * @param totalCharged 충전 합계
+ * @param totalUsed 사용 합계
+ * @param count 내역 수
+ * @param firstUpdateMillis 첫 내역 처리 시각 (내역이 없으면 0)
+ * @param lastUpdateMillis 마지막 내역 처리 시각 (내역이 없으면 0)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long count,
+        long firstUpdateMillis,
+        long lastUpdateMillis
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 내역으로 계산한 잔액 (충전 합계 - 사용 합계)
+     */
+    public long balance() {
+        return totalCharged - totalUsed;
+    }
+
+    /**
+     * 내역 한 건을 더한 집계
+     */
+    public PointSummary add(TransactionType type, long amount, long updateMillis) {
+        return addAll(type, amount, 1, updateMillis);
+    }
+
+    /**
+     * 같은 종류/시각의 내역 여러 건(금액 합계 amount, count 건)을 더한 집계
+     */
+    public PointSummary addAll(TransactionType type, long amount, long count, long updateMillis) {
+        if (count == 0) {
+            return this;
+        }
+        return new PointSummary(
+                userId,
+                type == TransactionType.CHARGE ? totalCharged + amount : totalCharged,
+                type == TransactionType.USE ? totalUsed + amount : totalUsed,
+                this.count + count,
+                this.count == 0 ? updateMillis : Math.min(firstUpdateMillis, updateMillis),
+                this.count == 0 ? updateMillis : Math.max(lastUpdateMillis, updateMillis)
+        );
+    }
+}
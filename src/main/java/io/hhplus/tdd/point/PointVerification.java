@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 잔액 검증 결과 (저장된 잔액과 내역 집계로 계산한 잔액 비교)
+ * @param userId 사용자 ID
+ * @param point 저장된 잔액 (UserPoint.point)
+ * @param expectedPoint 내역으로 계산한 잔액 (충전 합계 - 사용 합계)
+ * @param consistent 두 잔액이 같은지 여부
+ * @param summary 비교에 사용한 내역 집계
+ */
+public record PointVerification(
+        long userId,
+        long point,
+        long expectedPoint,
+        boolean consistent,
+        PointSummary summary
+) {
+
+    public static PointVerification of(UserPoint userPoint, PointSummary summary) {
+        return new PointVerification(userPoint.id(), userPoint.point(), summary.balance(), userPoint.point() == summary.balance(), summary);
+    }
+}
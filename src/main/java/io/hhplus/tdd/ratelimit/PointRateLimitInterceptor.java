@@ -0,0 +1,43 @@
+package io.hhplus.tdd.ratelimit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 충전/사용 요청을 컨트롤러 호출 전에 제한한다.
+ * - 경로에 사용자 ID({id})가 있으면 사용자별 + 전체 제한, 없으면(일괄 충전) 전체 제한만 적용한다.
+ * - 제한을 넘으면 RateLimitExceededException 을 던지고 ApiControllerAdvice 가 429 로 응답한다.
+ * - 비동기 응답(일괄 충전, reactive)의 async dispatch 에서는 다시 세지 않는다.
+ */
+@RequiredArgsConstructor
+public class PointRateLimitInterceptor implements HandlerInterceptor {
+
+    private final PointRateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get("id");
+        if (id == null) {
+            rateLimiter.acquireGlobal();
+            return true;
+        }
+        try {
+            rateLimiter.acquire(Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            // 잘못된 ID 는 컨트롤러에서 400 으로 응답한다.
+            rateLimiter.acquireGlobal();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 요청 제한 설정 (point.rate-limit.*)
+ * @param enabled false 면 요청을 제한하지 않는다.
+ * @param userRate 사용자당 초당 허용 요청 수
+ * @param userBurst 사용자당 한 번에 몰아서 허용하는 요청 수
+ * @param globalRate 전체 초당 허용 요청 수
+ * @param globalBurst 전체에서 한 번에 몰아서 허용하는 요청 수
+ * @param userSlots 사용자 bucket 슬롯 수 (2의 거듭제곱으로 올림, 슬롯당 8바이트로 메모리 사용량이 고정된다)
+ */
+@ConfigurationProperties(prefix = "point.rate-limit")
+public record PointRateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") double userRate,
+        @DefaultValue("40") int userBurst,
+        @DefaultValue("5000") double globalRate,
+        @DefaultValue("10000") int globalBurst,
+        @DefaultValue("4194304") int userSlots
+) {
+}
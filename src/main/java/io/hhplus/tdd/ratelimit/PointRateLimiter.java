@@ -0,0 +1,73 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.hhplus.tdd.exception.RateLimitExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 충전/사용 요청 제한 (사용자별 + 전체 token bucket)
+ * - 사용자 Lock 을 기다리기 전에 거절해, 한 사용자에게 몰린 요청이 Lock 대기열을 만들어 다른 사용자까지 느려지는 것을 막는다.
+ * - 사용자별 제한을 먼저 확인하므로 한 사용자가 보낸 초과 요청은 전체 허용량을 쓰지 않는다.
+ *   (사용자별로 허용된 뒤 전체 제한에 걸린 요청은 사용자 token 만 쓰고 거절된다)
+ * - 거절 시 RateLimitExceededException 에 token 이 생길 때까지 남은 시간을 담는다. (Retry-After)
+ */
+public class PointRateLimiter {
+
+    private final UserTokenBuckets userBuckets;
+    private final TokenBucket globalBucket;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder userRejected = new LongAdder();
+    private final LongAdder globalRejected = new LongAdder();
+
+    public PointRateLimiter(PointRateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    PointRateLimiter(PointRateLimitProperties properties, LongSupplier nanoClock) {
+        this.userBuckets = new UserTokenBuckets(properties.userRate(), properties.userBurst(), properties.userSlots(), nanoClock);
+        this.globalBucket = new TokenBucket(properties.globalRate(), properties.globalBurst(), nanoClock);
+    }
+
+    /**
+     * 사용자 요청 하나를 허용받는다.
+     * @throws RateLimitExceededException 사용자별 또는 전체 제한 초과
+     */
+    public void acquire(long userId) {
+        long waitNanos = userBuckets.tryAcquire(userId);
+        if (waitNanos > 0) {
+            userRejected.increment();
+            throw new RateLimitExceededException(RateLimitExceededException.Scope.USER, Duration.ofNanos(waitNanos));
+        }
+        acquireGlobal();
+    }
+
+    /**
+     * 특정 사용자에 속하지 않는 요청(일괄 충전 등) 하나를 허용받는다.
+     * @throws RateLimitExceededException 전체 제한 초과
+     */
+    public void acquireGlobal() {
+        long waitNanos = globalBucket.tryAcquire();
+        if (waitNanos > 0) {
+            globalRejected.increment();
+            throw new RateLimitExceededException(RateLimitExceededException.Scope.GLOBAL, Duration.ofNanos(waitNanos));
+        }
+        allowed.increment();
+    }
+
+    public Stats stats() {
+        return new Stats(allowed.sum(), userRejected.sum(), globalRejected.sum(), userBuckets.collisions());
+    }
+
+    /**
+     * 요청 제한 지표
+     * @param allowed 허용한 요청 수
+     * @param userRejected 사용자별 제한으로 거절한 요청 수
+     * @param globalRejected 전체 제한으로 거절한 요청 수
+     * @param collisions 사용자 bucket 칸이 부족해 제한하지 못하고 통과시킨 요청 수
+     */
+    public record Stats(long allowed, long userRejected, long globalRejected, long collisions) {
+    }
+}
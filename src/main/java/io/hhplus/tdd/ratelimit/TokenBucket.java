@@ -0,0 +1,53 @@
+package io.hhplus.tdd.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock 없이 CAS 로 갱신하는 token bucket (전체 요청 제한용)
+ * - 남은 token 수 대신 "bucket 이 다시 가득 차는 시각"(GCRA 의 theoretical arrival time) 하나만 AtomicLong 에 둔다.
+ *   요청 하나는 이 시각을 interval 만큼 미루고, 미룬 시각이 지금보다 burst * interval 넘게 앞서면 거절한다.
+ *   초당 rate 개씩 채워지고 최대 burst 개까지 쌓이는 token bucket 과 같은 결과이다.
+ * - 거절된 요청은 상태를 바꾸지 않으므로 거절이 몰려도 허용량이 줄지 않는다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate 와 burst 는 0 보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * token 하나를 꺼낸다.
+     * @return 0 이면 허용, 0 보다 크면 거절 (token 이 생길 때까지 남은 nano 초)
+     */
+    public long tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current - now, 0) + now + intervalNanos;
+            long waitNanos = next - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 token bucket 을 고정 크기 배열에 담는 저장소 (사용자별 요청 제한용)
+ * - bucket 하나는 long 하나(상위 22비트: 사용자 ID 지문, 하위 42비트: bucket 이 다시 가득 차는 시각)이고,
+ *   사용자 ID 해시 위치부터 PROBES 칸 안에 둔다. 사용자 수와 관계없이 메모리는 slots * 8 바이트로 고정된다.
+ * - 가득 차는 시각이 지난 bucket 은 새 bucket 과 같으므로(token 이 burst 만큼 있음) 다른 사용자가 그 칸을 가져가도 잃는 정보가 없다.
+ *   그래서 사용자를 지우는 작업 없이 쉬고 있는 사용자의 칸을 요청이 들어온 사용자가 재사용한다.
+ * - PROBES 칸이 모두 다른 사용자의 사용 중인 bucket 이면 요청을 제한하지 않고 통과시킨다. (collisions 로 집계, 슬롯 수를 늘릴 신호)
+ * - 갱신은 TokenBucket 과 같은 방식(GCRA)으로 칸 하나를 CAS 한다. 시각은 100µs 단위이므로 사용자당 초당 10000 건까지 정확하다.
+ */
+public class UserTokenBuckets {
+
+    private static final int PROBES = 4;
+
+    private static final int TIME_BITS = 42;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long TICK_NANOS = 100_000L;
+    private static final long TICKS_PER_SECOND = 1_000_000_000L / TICK_NANOS;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    private final long intervalTicks;
+    private final long toleranceTicks;
+    private final LongSupplier nanoClock;
+    private final long originNanos;
+
+    private final LongAdder collisions = new LongAdder();
+
+    public UserTokenBuckets(double ratePerSecond, int burst, int slots) {
+        this(ratePerSecond, burst, slots, System::nanoTime);
+    }
+
+    UserTokenBuckets(double ratePerSecond, int burst, int slots, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate 와 burst 는 0 보다 커야 합니다.");
+        }
+        int capacity = Math.max(PROBES, Integer.highestOneBit(Math.max(1, slots - 1)) << 1);
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.intervalTicks = Math.max(1, Math.round(TICKS_PER_SECOND / ratePerSecond));
+        this.toleranceTicks = intervalTicks * burst;
+        this.nanoClock = nanoClock;
+        // 0 은 빈 칸이므로 시각은 1 부터 시작한다.
+        this.originNanos = nanoClock.getAsLong() - TICK_NANOS;
+    }
+
+    /**
+     * 사용자의 token 하나를 꺼낸다.
+     * @return 0 이면 허용, 0 보다 크면 거절 (token 이 생길 때까지 남은 nano 초)
+     */
+    public long tryAcquire(long userId) {
+        long hash = hash(userId);
+        int home = (int) hash & mask;
+        long fingerprint = hash >>> TIME_BITS;
+
+        retry:
+        while (true) {
+            long now = (nanoClock.getAsLong() - originNanos) / TICK_NANOS;
+            int idleSlot = -1;
+            long idleValue = 0;
+            int slot = home;
+            for (int probe = 0; probe < PROBES; probe++, slot = (slot + 1) & mask) {
+                long value = slots.get(slot);
+                if (value >>> TIME_BITS == fingerprint) {
+                    long waitTicks = acquire(slot, value, fingerprint, now);
+                    if (waitTicks < 0) {
+                        // 같은 사용자의 다른 요청과 경합 (다시 읽는다)
+                        continue retry;
+                    }
+                    return waitTicks * TICK_NANOS;
+                }
+                if (idleSlot < 0 && (value & TIME_MASK) <= now) {
+                    idleSlot = slot;
+                    idleValue = value;
+                }
+            }
+            if (idleSlot < 0) {
+                collisions.increment();
+                return 0;
+            }
+            if (slots.compareAndSet(idleSlot, idleValue, pack(fingerprint, now + intervalTicks))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 다른 사용자의 사용 중인 bucket 때문에 제한하지 못하고 통과시킨 요청 수
+     */
+    public long collisions() {
+        return collisions.sum();
+    }
+
+    public int slotCount() {
+        return slots.length();
+    }
+
+    /**
+     * @return 0 이면 허용, 0 보다 크면 거절 (남은 tick), -1 이면 CAS 경합
+     */
+    private long acquire(int slot, long value, long fingerprint, long now) {
+        long next = Math.max(value & TIME_MASK, now) + intervalTicks;
+        long waitTicks = next - now - toleranceTicks;
+        if (waitTicks > 0) {
+            return waitTicks;
+        }
+        return slots.compareAndSet(slot, value, pack(fingerprint, next)) ? 0 : -1;
+    }
+
+    private static long pack(long fingerprint, long ticks) {
+        return fingerprint << TIME_BITS | (ticks & TIME_MASK);
+    }
+
+    // 연속된 ID 가 인접 칸에 몰리지 않도록 섞는다. (Murmur3 finalizer)
+    private static long hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * actor 모드 설정 (point.actor.*)
+ * @param workers 사용자 mailbox 를 처리하는 공유 worker 스레드 수 (동시에 처리되는 사용자 수)
+ * @param maxBatchSize mailbox 에서 한 번에 꺼내 잔액 저장 1회로 합치는 최대 명령 수
+ */
+@ConfigurationProperties(prefix = "point.actor")
+public record ActorPointProperties(
+        @DefaultValue("64") int workers,
+        @DefaultValue("1000") int maxBatchSize
+) {
+}
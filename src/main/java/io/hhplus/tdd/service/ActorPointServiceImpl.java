@@ -0,0 +1,368 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자별 mailbox 로 충전/사용을 처리하는 PointService (point.service.mode=actor)
+ * - 충전/사용 명령은 사용자 mailbox 에 쌓이고, 공유 worker 풀이 사용자당 하나의 worker 만 mailbox 를 비운다.
+ *   같은 사용자의 명령은 Lock 없이 도착 순서대로 처리된다.
+ * - worker 는 mailbox 에 쌓인 명령을 한 번에 꺼내 순서대로 정책을 검증·반영하고,
+ *   잔액은 마지막 값으로 UserPointTable 에 한 번만 저장한다. (hot user 에 몰린 N건 -> 저장 1회)
+ * - 명령별 결과(반영 후 잔액 또는 정책 위반 예외)와 내역은 명령마다 정확히 남긴다.
+ * - close() 는 새 명령을 거절하고 이미 받은 명령을 처리한 뒤 worker 를 종료한다.
+ *   제한 시간 안에 처리하지 못한 명령은 예외로 완료하므로 결과를 기다리는 호출자가 멈추지 않는다.
+ */
+@Service
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "actor")
+public class ActorPointServiceImpl implements PointService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ActorPointServiceImpl.class);
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final BoundedCache<Long, UserPoint> userPointCache;
+    private final int maxBatchSize;
+
+    // 사용자 ID -> mailbox (mailbox 가 있으면 해당 사용자의 worker 가 예약되었거나 실행 중)
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // mailbox 를 비우는 공유 worker 풀
+    private final ExecutorService workers;
+
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    // close() 이후 새 명령 거절
+    private volatile boolean closed;
+
+    public ActorPointServiceImpl(UserPointTable userPointTable,
+                                 PointHistoryRepository pointHistoryRepository,
+                                 BoundedCache<Long, UserPoint> userPointCache,
+                                 ActorPointProperties properties) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userPointCache = userPointCache;
+        this.maxBatchSize = Math.max(1, properties.maxBatchSize());
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.workers()), runnable -> {
+            Thread thread = new Thread(runnable, "point-actor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public UserPoint getUserPoint(long id) {
+        return userPointCache.get(id, userPointTable::selectById);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId) {
+        return pointHistoryRepository.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        return pointHistoryRepository.selectByUserId(userId, afterId, fromMillis, toMillis, pageSize);
+    }
+
+    @Override
+    public Iterator<PointHistory> iteratePointHistory(long userId) {
+        return pointHistoryRepository.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAllPointHistory() {
+        return pointHistoryRepository.iterateAll();
+    }
+
+    @Override
+    public PointSummary getPointSummary(long userId) {
+        return pointHistoryRepository.summarize(userId);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        return await(submit(id, new Command(TransactionType.CHARGE, amount, 0)));
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, long cost) {
+        return await(submit(id, new Command(TransactionType.USE, amount, cost)));
+    }
+
+    /**
+     * 모든 명령을 먼저 mailbox 에 넣고 결과를 모은다.
+     * - 같은 사용자의 명령은 mailbox 에서 함께 꺼내져 잔액 저장 1회로 합쳐진다.
+     */
+    @Override
+    public List<ChargeResult> chargeAll(List<ChargeCommand> commands) {
+        if (commands.size() > MAX_CHARGE_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 충전은 최대 " + MAX_CHARGE_BATCH_SIZE + "건까지 가능합니다.");
+        }
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(commands.size());
+        for (ChargeCommand command : commands) {
+            futures.add(submit(command.userId(), new Command(TransactionType.CHARGE, command.amount(), 0)));
+        }
+
+        List<ChargeResult> results = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                results.add(ChargeResult.success(commands.get(i), await(futures.get(i)).point()));
+            } catch (InsufficientPointException e) {
+                results.add(ChargeResult.failure(commands.get(i), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    public Stats stats() {
+        return new Stats(commands.sum(), writes.sum(), mailboxes.size());
+    }
+
+    /**
+     * 새 명령을 거절하고, mailbox 에 남은 명령을 처리한 뒤 종료한다.
+     * - 1분 안에 처리하지 못한 명령은 예외로 완료한다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (!mailboxes.isEmpty() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("point actor workers did not finish in time: {} mailboxes left", mailboxes.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Long id : mailboxes.keySet()) {
+            mailboxes.computeIfPresent(id, (key, mailbox) -> {
+                failAll(mailbox);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 사용자 mailbox 에 명령 추가 (mailbox 가 없으면 만들고 worker 를 예약)
+     */
+    private CompletableFuture<UserPoint> submit(long id, Command command) {
+        commands.increment();
+        mailboxes.compute(id, (key, mailbox) -> {
+            if (closed) {
+                command.result.completeExceptionally(closedException());
+                return mailbox;
+            }
+            if (mailbox == null) {
+                try {
+                    workers.execute(() -> drain(key));
+                } catch (RejectedExecutionException e) {
+                    command.result.completeExceptionally(closedException());
+                    return null;
+                }
+                mailbox = new Mailbox();
+            }
+            mailbox.commands.add(command);
+            return mailbox;
+        });
+        return command.result;
+    }
+
+    /**
+     * 사용자 mailbox 처리 (사용자당 동시에 하나의 worker 만 실행)
+     * - 쌓인 명령을 최대 maxBatchSize 건 꺼내 처리하고, 남은 명령이 있으면 다시 예약한다.
+     * - 남은 명령이 없으면 mailbox 를 제거한다.
+     */
+    private void drain(long id) {
+        List<Command> batch = new ArrayList<>();
+        mailboxes.computeIfPresent(id, (key, mailbox) -> {
+            while (batch.size() < maxBatchSize && !mailbox.commands.isEmpty()) {
+                batch.add(mailbox.commands.poll());
+            }
+            return mailbox;
+        });
+
+        try {
+            apply(id, batch);
+        } catch (RuntimeException e) {
+            log.error("point actor failed to apply {} commands for user {}", batch.size(), id, e);
+            batch.forEach(command -> command.result.completeExceptionally(e));
+        } finally {
+            mailboxes.computeIfPresent(id, (key, mailbox) -> {
+                if (mailbox.commands.isEmpty()) {
+                    return null;
+                }
+                try {
+                    workers.execute(() -> drain(key));
+                    return mailbox;
+                } catch (RejectedExecutionException e) {
+                    // 종료된 worker 풀에는 다시 예약할 수 없으므로 남은 명령을 실패로 완료한다.
+                    failAll(mailbox);
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * 한 사용자의 명령 여러 건을 순서대로 반영
+     * - 명령마다 정책을 검증하고, 통과한 명령만 잔액에 반영한다. (실패한 명령은 바로 예외로 완료)
+     * - 내역을 먼저 같은 종류가 연속된 명령끼리 일괄 저장하고, 그 뒤 잔액을 마지막 값으로 한 번만 저장한다.
+     *   (디스크 저장 모드의 복구 시 reconcile 이 내역을 기준으로 잔액을 맞추므로 내역이 먼저 남아야 한다)
+     * - 내역 저장이 중간에 실패하면 내역이 저장된 명령까지만 잔액에 반영하고, 나머지 명령은 예외로 완료한다.
+     */
+    private void apply(long id, List<Command> batch) {
+        long point = getUserPoint(id).point();
+
+        List<Command> applied = new ArrayList<>(batch.size());
+        for (Command command : batch) {
+            try {
+                if (command.type == TransactionType.CHARGE) {
+                    //정책1: 포인트 충전은 100만원 이상 할 수 없다.
+                    PointPolicy.validateCharge(command.amount);
+                    point += command.amount;
+                } else {
+                    // 포인트 부족, 정책2(10000원 이하 사용 불가), 정책3(결제 금액의 50%까지) 검증
+                    PointPolicy.validateUse(point, command.amount, command.cost);
+                    point -= command.amount;
+                }
+            } catch (InsufficientPointException e) {
+                command.result.completeExceptionally(e);
+                continue;
+            }
+            command.pointAfter = point;
+            applied.add(command);
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        // 내역 저장 (같은 종류가 연속된 명령끼리 insertAll)
+        long updateMillis = System.currentTimeMillis();
+        int written = 0;
+        RuntimeException historyFailure = null;
+        try {
+            while (written < applied.size()) {
+                TransactionType type = applied.get(written).type;
+                int to = written;
+                List<Long> amounts = new ArrayList<>();
+                while (to < applied.size() && applied.get(to).type == type) {
+                    amounts.add(applied.get(to).amount);
+                    to++;
+                }
+                pointHistoryRepository.insertAll(id, amounts, type, updateMillis);
+                written = to;
+            }
+        } catch (RuntimeException e) {
+            log.error("point actor failed to write history for user {}: {} of {} commands written", id, written, applied.size(), e);
+            historyFailure = e;
+        }
+        for (Command command : applied.subList(written, applied.size())) {
+            command.result.completeExceptionally(historyFailure);
+        }
+        if (written == 0) {
+            return;
+        }
+
+        // 잔액 저장 1회 (내역이 저장된 마지막 명령까지 반영한 값)
+        Command last = applied.get(written - 1);
+        UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, last.pointAfter, last.cost);
+        userPointCache.put(id, updatedUserPoint);
+        writes.increment();
+
+        // 명령별 결과는 해당 명령까지 반영된 잔액
+        for (Command command : applied.subList(0, written)) {
+            command.result.complete(command == last
+                    ? updatedUserPoint
+                    : new UserPoint(id, command.pointAfter, updatedUserPoint.updateMillis(), command.cost));
+        }
+    }
+
+    private static void failAll(Mailbox mailbox) {
+        IllegalStateException closedException = closedException();
+        for (Command command : mailbox.commands) {
+            command.result.completeExceptionally(closedException);
+        }
+        mailbox.commands.clear();
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("point actor service is closed");
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * actor 모드 지표
+     * @param commands 처리 요청된 충전/사용 명령 수
+     * @param writes UserPointTable 잔액 저장 수 (commands 보다 작을수록 많이 합쳐짐)
+     * @param activeMailboxes 처리 대기/중인 사용자 수
+     */
+    public record Stats(long commands, long writes, int activeMailboxes) {
+    }
+
+    private static final class Mailbox {
+        // compute 안에서만 접근 (ConcurrentHashMap 의 키 단위 잠금으로 보호)
+        private final ArrayDeque<Command> commands = new ArrayDeque<>();
+    }
+
+    private static final class Command {
+        private final TransactionType type;
+        private final long amount;
+        private final long cost;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        // 이 명령까지 반영된 잔액 (worker 스레드에서만 사용)
+        private long pointAfter;
+
+        private Command(TransactionType type, long amount, long cost) {
+            this.type = type;
+            this.amount = amount;
+            this.cost = cost;
+        }
+    }
+}
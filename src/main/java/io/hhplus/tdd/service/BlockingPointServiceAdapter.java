@@ -0,0 +1,67 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * reactive 모드에서 기존 PointController 등 블로킹 호출자를 위한 PointService (point.service.mode=reactive)
+ * - 잔액 조회/충전/사용은 ReactivePointService 결과를 기다려 반환하므로 사용자별 순서는 같은 직렬 큐로 보장된다.
+ * - 내역 페이지/스트리밍 조회는 PointHistoryRepository 를 그대로 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "reactive")
+public class BlockingPointServiceAdapter implements PointService {
+
+    private final ReactivePointService reactivePointService;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    @Override
+    public UserPoint getUserPoint(long id) {
+        return reactivePointService.getUserPoint(id).block();
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId) {
+        return reactivePointService.getPointHistory(userId).collectList().block();
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        return pointHistoryRepository.selectByUserId(userId, afterId, fromMillis, toMillis, pageSize);
+    }
+
+    @Override
+    public Iterator<PointHistory> iteratePointHistory(long userId) {
+        return pointHistoryRepository.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAllPointHistory() {
+        return pointHistoryRepository.iterateAll();
+    }
+
+    @Override
+    public PointSummary getPointSummary(long userId) {
+        return pointHistoryRepository.summarize(userId);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        return reactivePointService.charge(id, amount).block();
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, long cost) {
+        return reactivePointService.use(id, amount, cost).block();
+    }
+}
@@ -0,0 +1,303 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lock 없이 CAS 로 잔액을 갱신하는 PointService (point.service.mode=lock-free)
+ * - 사용자별 잔액은 메모리의 BalanceCell 이 원본이며, 처음 접근할 때 UserPointTable 에서 읽어온다.
+ * - 충전/사용은 compare-and-set 재시도 루프 안에서 정책을 검증하므로 같은 사용자의 요청도 Lock 대기 없이 처리된다.
+ * - UserPointTable/PointHistoryRepository 저장은 persister 스레드가 비동기로 한다.
+ *   원본 테이블은 동시 쓰기에 안전하지 않으므로 기본은 persister 1개이고,
+ *   point.table.type=concurrent 일 때만 사용자 ID 해시로 나눈 여러 persister 가 병렬로 저장한다.
+ *   같은 사용자는 항상 같은 persister 가 맡으므로 내역 저장 순서가 유지된다.
+ * - persister 작업은 사용자당 최대 하나만 예약된다. 그 사이 쌓인 내역은 insertAll 로 묶어 저장하고
+ *   잔액은 마지막 값만 저장(coalescing)하므로, persister 큐는 사용자 수 이상 커지지 않고 호출 스레드는 대기하지 않는다.
+ * - 저장이 실패하면 로그를 남기고, 저장하지 못한 내역과 잔액은 잠시 뒤 같은 persister 가 다시 저장한다.
+ * - 내역은 persister 가 저장하기 전까지 조회 결과에 보이지 않을 수 있다.
+ */
+@Service
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "lock-free")
+public class LockFreePointServiceImpl implements PointService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LockFreePointServiceImpl.class);
+    private static final int CONCURRENT_PERSISTERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long PERSIST_RETRY_MILLIS = 100;
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 사용자 ID -> 잔액 셀 (잔액의 원본)
+    private final ConcurrentHashMap<Long, BalanceCell> cells = new ConcurrentHashMap<>();
+
+    // 테이블 저장 전용 스레드 (사용자 ID 해시로 나눔, 각 스레드가 자기 사용자들을 순서대로 저장)
+    private final ScheduledExecutorService[] persisters;
+
+    /**
+     * persister 1개로 생성 (동시 쓰기에 안전하지 않은 원본 테이블용)
+     */
+    public LockFreePointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository) {
+        this(userPointTable, pointHistoryRepository, 1);
+    }
+
+    /**
+     * @param tableType point.table.type (concurrent 면 코어 수만큼 persister 를 쓴다)
+     */
+    @Autowired
+    public LockFreePointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository,
+                                    @Value("${point.table.type:default}") String tableType) {
+        this(userPointTable, pointHistoryRepository, "concurrent".equals(tableType) ? CONCURRENT_PERSISTERS : 1);
+    }
+
+    /**
+     * @param persisterCount persister 스레드 수 (2 이상이면 테이블과 내역 저장소가 동시 쓰기에 안전해야 한다)
+     */
+    public LockFreePointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository, int persisterCount) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.persisters = new ScheduledExecutorService[Math.max(1, persisterCount)];
+        for (int partition = 0; partition < persisters.length; partition++) {
+            String threadName = "point-balance-persister-" + partition;
+            persisters[partition] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public UserPoint getUserPoint(long id) {
+        Balance balance = getCell(id).balance();
+        return new UserPoint(id, balance.point(), balance.updateMillis(), balance.cost());
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId) {
+        return pointHistoryRepository.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        return pointHistoryRepository.selectByUserId(userId, afterId, fromMillis, toMillis, pageSize);
+    }
+
+    @Override
+    public Iterator<PointHistory> iteratePointHistory(long userId) {
+        return pointHistoryRepository.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAllPointHistory() {
+        return pointHistoryRepository.iterateAll();
+    }
+
+    @Override
+    public PointSummary getPointSummary(long userId) {
+        return pointHistoryRepository.summarize(userId);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        //정책1: 포인트 충전은 100만원 이상 할 수 없다.
+        PointPolicy.validateCharge(amount);
+
+        BalanceCell cell = getCell(id);
+        Balance current;
+        Balance next;
+        do {
+            current = cell.balance();
+            next = new Balance(Math.addExact(current.point(), amount), 0, System.currentTimeMillis());
+        } while (!cell.compareAndSetBalance(current, next));
+
+        return commit(id, cell, next, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, long cost) {
+        BalanceCell cell = getCell(id);
+        Balance current;
+        Balance next;
+        do {
+            current = cell.balance();
+            // 포인트 부족, 정책2, 정책3 검증 (CAS 실패 시 최신 잔액으로 다시 검증)
+            PointPolicy.validateUse(current.point(), amount, cost);
+            next = new Balance(current.point() - amount, cost, System.currentTimeMillis());
+        } while (!cell.compareAndSetBalance(current, next));
+
+        return commit(id, cell, next, amount, TransactionType.USE);
+    }
+
+    /**
+     * persister 큐에 남은 저장 작업을 모두 처리한 뒤 종료한다.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService persister : persisters) {
+            persister.shutdown();
+        }
+        try {
+            for (ExecutorService persister : persisters) {
+                if (!persister.awaitTermination(1, TimeUnit.MINUTES)) {
+                    log.warn("point balance persister did not finish in time");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UserPoint commit(long id, BalanceCell cell, Balance balance, long amount, TransactionType type) {
+        // 내역 기록과 잔액 저장은 사용자의 persister 에 맡긴다. (이미 예약된 작업이 있으면 그 작업이 함께 저장)
+        cell.pendingHistories.add(new PendingHistory(amount, type, balance.updateMillis()));
+        if (cell.persistScheduled.compareAndSet(false, true)) {
+            persisters[partitionOf(id)].execute(() -> persist(id, cell));
+        }
+        return new UserPoint(id, balance.point(), balance.updateMillis(), balance.cost());
+    }
+
+    /**
+     * 쌓인 내역을 같은 종류·처리 시각끼리 insertAll 로 묶어 저장한 뒤, 그 시점의 잔액을 한 번 저장한다.
+     * - 예약 표시를 먼저 지우므로, 이후 추가된 내역은 이번 작업이 가져가거나 새로 예약된 작업이 저장한다.
+     * - 저장이 실패하면 남은 내역을 셀에 보관하고 PERSIST_RETRY_MILLIS 뒤 다시 저장한다. (잔액도 다시 저장)
+     */
+    private void persist(long id, BalanceCell cell) {
+        cell.persistScheduled.set(false);
+
+        // unsaved 는 이 사용자의 persister 스레드에서만 접근한다.
+        List<PendingHistory> histories = cell.unsaved;
+        PendingHistory pendingHistory;
+        while ((pendingHistory = cell.pendingHistories.poll()) != null) {
+            histories.add(pendingHistory);
+        }
+        try {
+            while (!histories.isEmpty()) {
+                PendingHistory first = histories.get(0);
+                List<Long> amounts = new ArrayList<>();
+                int to = 0;
+                while (to < histories.size() && histories.get(to).sameBatch(first)) {
+                    amounts.add(histories.get(to).amount());
+                    to++;
+                }
+                pointHistoryRepository.insertAll(id, amounts, first.type(), first.updateMillis());
+                histories.subList(0, to).clear();
+            }
+
+            // 잔액과 cost 는 한 스냅샷에서 읽는다.
+            Balance balance = cell.balance();
+            userPointTable.insertOrUpdate(id, balance.point(), balance.cost());
+        } catch (RuntimeException e) {
+            log.error("point balance persist failed for user {} ({} histories left), retrying in {}ms", id, histories.size(), PERSIST_RETRY_MILLIS, e);
+            scheduleRetry(id, cell);
+        }
+    }
+
+    private void scheduleRetry(long id, BalanceCell cell) {
+        if (!cell.persistScheduled.compareAndSet(false, true)) {
+            // 이미 예약된 작업이 남은 내역과 잔액을 함께 저장한다.
+            return;
+        }
+        try {
+            persisters[partitionOf(id)].schedule(() -> persist(id, cell), PERSIST_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            cell.persistScheduled.set(false);
+            log.error("point balance persister is shut down: user {} lost {} histories and the latest balance", id, cell.unsaved.size());
+        }
+    }
+
+    private int partitionOf(long id) {
+        int hash = Long.hashCode(id);
+        return Math.floorMod(hash ^ (hash >>> 16), persisters.length);
+    }
+
+    private BalanceCell getCell(long id) {
+        BalanceCell cell = cells.get(id);
+        if (cell != null) {
+            return cell;
+        }
+
+        // 테이블 조회(최대 200ms)는 map 밖에서 하고, 먼저 등록된 셀이 있으면 그 셀을 쓴다.
+        UserPoint stored = userPointTable.selectById(id);
+        BalanceCell loaded = new BalanceCell(new Balance(stored.point(), stored.cost(), stored.updateMillis()));
+        BalanceCell existing = cells.putIfAbsent(id, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 잔액 스냅샷 (point 와 마지막으로 성공한 요청의 cost/updateMillis 를 함께 바꾼다)
+     */
+    record Balance(long point, long cost, long updateMillis) {
+    }
+
+    /**
+     * persister 가 아직 저장하지 않은 내역
+     */
+    record PendingHistory(long amount, TransactionType type, long updateMillis) {
+
+        boolean sameBatch(PendingHistory other) {
+            return type == other.type && updateMillis == other.updateMillis;
+        }
+    }
+
+    /**
+     * 사용자별 잔액 셀
+     * - balance 는 VarHandle CAS 로만 갱신한다.
+     * - pendingHistories 는 persister 가 저장할 내역을 commit 순서대로 쌓는다.
+     */
+    static final class BalanceCell {
+
+        private static final VarHandle BALANCE;
+
+        static {
+            try {
+                BALANCE = MethodHandles.lookup().findVarHandle(BalanceCell.class, "balance", Balance.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private volatile Balance balance;
+        final Queue<PendingHistory> pendingHistories = new ConcurrentLinkedQueue<>();
+        // pendingHistories 에서 꺼냈지만 아직 저장하지 못한 내역 (사용자의 persister 스레드에서만 접근)
+        final List<PendingHistory> unsaved = new ArrayList<>();
+        final AtomicBoolean persistScheduled = new AtomicBoolean();
+
+        BalanceCell(Balance balance) {
+            this.balance = balance;
+        }
+
+        Balance balance() {
+            return balance;
+        }
+
+        boolean compareAndSetBalance(Balance expected, Balance next) {
+            return BALANCE.compareAndSet(this, expected, next);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 충전 설정 (point.batch.*)
+ * @param parallelism 사용자 그룹을 동시에 처리하는 플랫폼 스레드 수 (가상 스레드를 쓰면 무시)
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("64") int parallelism
+) {
+
+    /**
+     * 일괄 충전 executor 생성
+     * - 사용자 그룹 작업은 대부분 Lock 대기와 테이블 호출로 블록되므로 스레드 수를 코어 수가 아니라 동시 I/O 수에 맞춘다.
+     * @param virtualThreads true 면 작업마다 가상 스레드로 실행 (spring.threads.virtual.enabled)
+     */
+    public ExecutorService createExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-batch-charge-", 0).factory());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-charge-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.cache.SingleFlight;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청의 Idempotency-Key 처리
+ * - (사용자 ID, 키) 별로 처음 성공한 결과(UserPoint)를 크기/시간 제한 캐시(BoundedCache)에 보관하고,
+ *   같은 키로 다시 들어온 요청은 잔액/내역 테이블을 거치지 않고 보관한 결과를 그대로 반환한다.
+ * - 같은 키의 요청이 동시에 들어오면 SingleFlight 로 하나만 실행하고 나머지는 그 결과를 함께 받는다.
+ *   결과는 실행 중에 캐시에 저장하므로, 실행이 끝난 직후에 들어온 요청도 다시 실행되지 않는다.
+ * - 정책 위반 등으로 실패한 요청은 잔액/내역을 바꾸지 않았으므로 보관하지 않는다. (재시도 시 다시 검증)
+ * - 같은 키로 다른 요청(종류/금액이 다름)이 들어오면 IllegalArgumentException 을 던진다.
+ * - 캐시가 가득 차면 가장 오래 사용하지 않은 결과부터 제거되므로 메모리 사용량은 maxSize 로 제한된다.
+ */
+public class PointIdempotency {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    // 키 최대 길이 (보관하는 결과의 메모리 사용량 제한)
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final BoundedCache<Key, Completed> results;
+    private final SingleFlight<Key, Completed> inFlight = new SingleFlight<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    public PointIdempotency(PointIdempotencyProperties properties) {
+        this.results = new BoundedCache<>(properties.maxSize(), properties.ttl());
+    }
+
+    /**
+     * 키가 없으면 바로 실행하고, 있으면 같은 키로 처음 성공한 결과를 반환한다.
+     * @param userId 사용자 ID
+     * @param key Idempotency-Key (null 이거나 비어 있으면 중복 확인 안 함)
+     * @param request 요청 내용 (같은 키로 다른 요청이 들어왔는지 확인용, 예: "charge:1000")
+     * @param command 충전/사용 실행
+     * @return
+     */
+    public UserPoint execute(long userId, String key, String request, Supplier<UserPoint> command) {
+        if (key == null || key.isBlank()) {
+            return command.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " 는 " + MAX_KEY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+
+        Key resultKey = new Key(userId, key);
+        Completed completed = results.get(resultKey);
+        if (completed == null) {
+            completed = inFlight.execute(resultKey, () -> {
+                Completed existing = results.get(resultKey);
+                if (existing != null) {
+                    return existing;
+                }
+                Completed done = new Completed(request, command.get());
+                executed.increment();
+                results.put(resultKey, done);
+                return done;
+            });
+        }
+        if (!completed.request().equals(request)) {
+            throw new IllegalArgumentException("같은 " + HEADER + " 로 다른 요청을 보낼 수 없습니다.");
+        }
+        return completed.userPoint();
+    }
+
+    public Stats stats() {
+        return new Stats(executed.sum(), results.size());
+    }
+
+    /**
+     * Idempotency-Key 처리 지표
+     * @param executed 키와 함께 실제로 실행된 요청 수
+     * @param size 보관 중인 결과 수
+     */
+    public record Stats(long executed, long size) {
+    }
+
+    private record Key(long userId, String key) {
+    }
+
+    private record Completed(String request, UserPoint userPoint) {
+    }
+}
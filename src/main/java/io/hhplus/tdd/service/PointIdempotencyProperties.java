@@ -0,0 +1,18 @@
+package io.hhplus.tdd.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 Idempotency-Key 설정 (point.idempotency.*)
+ * @param maxSize 보관하는 처리 결과 최대 수 (넘으면 가장 오래 사용하지 않은 결과부터 제거, 0 이면 동시에 들어온 재시도만 합친다)
+ * @param ttl 처리 결과 보관 시간 (클라이언트 재시도 기간보다 길게)
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("100000") long maxSize,
+        @DefaultValue("24h") Duration ttl
+) {
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.exception.InsufficientPointException.Reason;
+
+/**
+ * 포인트 충전/사용 정책
+ * - 정책1: 포인트 충전은 100만원 이상 할 수 없다.
+ * - 정책2: 포인트는 10000원 이하의 가격에는 사용할 수 없다.
+ * - 정책3: 포인트는 결제 금액의 최대 50%까지만 사용 가능
+ */
+public final class PointPolicy {
+
+    public static final long MAX_CHARGE_AMOUNT = 1000000;
+    public static final long MIN_USE_COST = 10000;
+
+    private PointPolicy() {
+    }
+
+    /**
+     * 충전 정책 검증
+     * @param amount 충전 포인트
+     */
+    public static void validateCharge(long amount) {
+        //정책1: 포인트 충전은 100만원 이상 할 수 없다.
+        if (amount >= MAX_CHARGE_AMOUNT) {
+            throw new InsufficientPointException(Reason.CHARGE_LIMIT_EXCEEDED, "포인트를 100만원 이상 충전할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 사용 정책 검증
+     * @param currentPoint 현재 포인트
+     * @param amount 사용 포인트
+     * @param cost 결제 금액
+     */
+    public static void validateUse(long currentPoint, long amount, long cost) {
+        // 포인트 부족 예외 처리
+        if (currentPoint <= 0 || currentPoint < amount) {
+            throw new InsufficientPointException(Reason.INSUFFICIENT_BALANCE, "포인트가 부족합니다.");
+        }
+
+        // 정책2: 포인트는 10000원 이하의 가격에는 사용할 수 없다.
+        if (cost <= MIN_USE_COST) {
+            throw new InsufficientPointException(Reason.COST_TOO_LOW, "10000원 이하의 가격에는 포인트를 사용할 수 없습니다.");
+        }
+
+        // 정책3: 포인트는 결제 금액의 최대 50%까지만 사용 가능
+        long maxUsablePoint = cost / 2;
+        if (amount > maxUsablePoint) {
+            throw new InsufficientPointException(Reason.USE_RATIO_EXCEEDED, "포인트는 결제 금액의 최대 50%까지만 사용할 수 있습니다.");
+        }
+    }
+}
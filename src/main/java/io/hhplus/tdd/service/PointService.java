@@ -1,12 +1,27 @@
 package io.hhplus.tdd.service;
 
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
 import io.hhplus.tdd.point.UserPoint;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PointService {
 
+    // 내역 페이지 조회 기본/최대 건수
+    int DEFAULT_HISTORY_PAGE_SIZE = 100;
+    int MAX_HISTORY_PAGE_SIZE = 1000;
+
+    // 일괄 충전 최대 건수
+    int MAX_CHARGE_BATCH_SIZE = 100000;
+
     /**
      * 특정 유저 포인트 조회
      * @param id 사용자 ID 값
@@ -21,6 +36,57 @@ public interface PointService {
      */
     List<PointHistory> getPointHistory(long userId);
 
+    /**
+     * 사용자의 포인트 이용 및 충전 기록 페이지 조회
+     * - id 오름차순으로 afterId 이후의 내역 중 [fromMillis, toMillis) 구간을 최대 limit 건 조회한다.
+     * @param userId 사용자 고유값
+     * @param afterId 마지막으로 받은 내역 id (처음 조회 시 0)
+     * @param limit 최대 조회 건수 (MAX_HISTORY_PAGE_SIZE 를 넘으면 MAX_HISTORY_PAGE_SIZE)
+     * @param fromMillis 조회 시작 시각 (포함)
+     * @param toMillis 조회 종료 시각 (미포함)
+     * @return
+     */
+    List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis);
+
+    /**
+     * 사용자의 포인트 이용 및 충전 기록을 한 건씩 읽는 Iterator (내보내기용)
+     * @param userId 사용자 고유값
+     * @return
+     */
+    Iterator<PointHistory> iteratePointHistory(long userId);
+
+    /**
+     * 전체 사용자의 포인트 이용 및 충전 기록을 한 건씩 읽는 Iterator (내보내기용)
+     * @return
+     */
+    Iterator<PointHistory> iterateAllPointHistory();
+
+    /**
+     * 사용자의 포인트 내역 집계 (충전/사용 합계, 건수, 첫/마지막 처리 시각)
+     * - 기본 구현은 사용자의 내역을 모두 읽어 계산한다. 내역 저장소를 가진 구현은 저장소가 유지하는 집계를 반환한다.
+     * @param userId 사용자 고유값
+     * @return
+     */
+    default PointSummary getPointSummary(long userId) {
+        PointSummary summary = PointSummary.empty(userId);
+        Iterator<PointHistory> histories = iteratePointHistory(userId);
+        while (histories.hasNext()) {
+            PointHistory pointHistory = histories.next();
+            summary = summary.add(pointHistory.type(), pointHistory.amount(), pointHistory.updateMillis());
+        }
+        return summary;
+    }
+
+    /**
+     * 저장된 잔액이 내역 집계(충전 합계 - 사용 합계)와 같은지 검증한다.
+     * - 기본 구현은 잔액과 집계를 차례로 읽으므로, 그 사이에 충전/사용이 끝나면 일시적으로 불일치로 보일 수 있다.
+     * @param userId 사용자 고유값
+     * @return
+     */
+    default PointVerification verify(long userId) {
+        return PointVerification.of(getUserPoint(userId), getPointSummary(userId));
+    }
+
     /**
      * 사용자 포인트 충전하는 기능
      * @param id 사용자 ID
@@ -37,4 +103,34 @@ public interface PointService {
      */
     UserPoint use(long id, long amount, long cost);
 
+    /**
+     * 여러 사용자의 포인트를 일괄 충전한다.
+     * - 항목별로 충전 정책을 검증하고, 실패한 항목은 결과에 사유를 담는다. (다른 항목에는 영향 없음)
+     * - 기본 구현은 항목마다 charge 를 호출한다.
+     * @param commands 충전 요청 목록
+     * @return 요청과 같은 순서의 항목별 결과
+     */
+    default List<ChargeResult> chargeAll(List<ChargeCommand> commands) {
+        List<ChargeResult> results = new ArrayList<>(commands.size());
+        for (ChargeCommand command : commands) {
+            try {
+                UserPoint userPoint = charge(command.userId(), command.amount());
+                results.add(ChargeResult.success(command, userPoint.point()));
+            } catch (InsufficientPointException e) {
+                results.add(ChargeResult.failure(command, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 일괄 충전을 비동기로 실행한다. (요청 스레드를 붙잡지 않도록 컨트롤러가 사용)
+     * - 기본 구현은 호출 스레드에서 chargeAll 을 실행하고 완료된 future 를 반환한다.
+     * @param commands 충전 요청 목록
+     * @return 요청과 같은 순서의 항목별 결과
+     */
+    default CompletableFuture<List<ChargeResult>> chargeAllAsync(List<ChargeCommand> commands) {
+        return CompletableFuture.completedFuture(chargeAll(commands));
+    }
+
 }
@@ -1,72 +1,306 @@
 package io.hhplus.tdd.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.cache.SingleFlight;
+import io.hhplus.tdd.database.PointHistoryRepository;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+import io.hhplus.tdd.lock.UserLockAdmission;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @Service
-@RequiredArgsConstructor
-public class PointServiceImpl implements PointService {
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "locking", matchIfMissing = true)
+public class PointServiceImpl implements PointService, AutoCloseable {
+
+    // 지표 태그 (point.table)
+    private static final String USER_POINT_TABLE = "user_point";
+    private static final String POINT_HISTORY_TABLE = "point_history";
 
     private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 사용자별 Lock 제공자 (point.lock.strategy)
+    private final UserLockProvider userLockProvider;
+
+    // UserPointTable 앞단 잔액 캐시 (충전/사용 시 Lock 안에서 write-through)
+    private final BoundedCache<Long, UserPoint> userPointCache;
+
+    // Lock 대기/보유 시간, 테이블 호출 지연, 정책 거절 수 지표
+    private final PointMetrics pointMetrics;
+
+    // 사용자별 Lock 대기 요청 수 / 대기 시간 제한 (point.lock.admission)
+    private final UserLockAdmission userLockAdmission;
+
+    // 같은 사용자에 대한 동시 조회를 하나의 테이블 조회로 합친다.
+    // 잔액 조회는 캐시 쓰기 버전까지 키에 넣어, 쓰기 이후 시작한 조회가 쓰기 이전에 시작된 조회에 합쳐지지 않게 한다.
+    private final SingleFlight<UserPointLoad, UserPoint> userPointLoads = new SingleFlight<>();
+    private final SingleFlight<Long, List<PointHistory>> pointHistoryLoads = new SingleFlight<>();
+
+    // 사용자 ID -> Lock 을 기다리는 충전 (Lock 을 잡은 스레드가 한 번에 반영하는 group commit 용)
+    private final ConcurrentHashMap<Long, Queue<PendingCharge>> pendingCharges = new ConcurrentHashMap<>();
+
+    // 일괄 충전 시 사용자 그룹을 병렬로 처리하는 executor (point.batch.*)
+    private final ExecutorService batchExecutor;
+
+    // batchExecutor 를 이 인스턴스가 만들었으면 true (close 시 종료, 주입받은 executor 는 소유자가 종료)
+    private final boolean ownsBatchExecutor;
+
+    /**
+     * Lock 대기 제한 없이 생성 (Lock 을 끝까지 기다린다)
+     */
+    public PointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository, UserLockProvider userLockProvider,
+                            BoundedCache<Long, UserPoint> userPointCache, PointMetrics pointMetrics) {
+        this(userPointTable, pointHistoryRepository, userLockProvider, userPointCache, pointMetrics, UserLockAdmission.unbounded());
+    }
+
+    /**
+     * 일괄 충전 executor 를 기본 설정(point.batch 기본값, 플랫폼 스레드)으로 만들어 생성
+     * - 만든 executor 는 이 인스턴스가 소유하므로 close() 로 종료한다.
+     */
+    public PointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository, UserLockProvider userLockProvider,
+                            BoundedCache<Long, UserPoint> userPointCache, PointMetrics pointMetrics, UserLockAdmission userLockAdmission) {
+        this(userPointTable, pointHistoryRepository, userLockProvider, userPointCache, pointMetrics, userLockAdmission,
+                new PointBatchProperties(64).createExecutor(false), true);
+    }
+
+    /**
+     * 주입받은 일괄 충전 executor 로 생성 (executor 는 만든 쪽에서 종료한다)
+     */
+    @Autowired
+    public PointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository, UserLockProvider userLockProvider,
+                            BoundedCache<Long, UserPoint> userPointCache, PointMetrics pointMetrics, UserLockAdmission userLockAdmission,
+                            @Qualifier("pointBatchExecutor") ExecutorService batchExecutor) {
+        this(userPointTable, pointHistoryRepository, userLockProvider, userPointCache, pointMetrics, userLockAdmission, batchExecutor, false);
+    }
 
-    // 사용자별 Lock을 관리하는 ConcurrentHashMap
-    private final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
+    private PointServiceImpl(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository, UserLockProvider userLockProvider,
+                             BoundedCache<Long, UserPoint> userPointCache, PointMetrics pointMetrics, UserLockAdmission userLockAdmission,
+                             ExecutorService batchExecutor, boolean ownsBatchExecutor) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockProvider = userLockProvider;
+        this.userPointCache = userPointCache;
+        this.pointMetrics = pointMetrics;
+        this.userLockAdmission = userLockAdmission;
+        this.batchExecutor = batchExecutor;
+        this.ownsBatchExecutor = ownsBatchExecutor;
+        pointMetrics.bindSingleFlight(USER_POINT_TABLE, userPointLoads);
+        pointMetrics.bindSingleFlight(POINT_HISTORY_TABLE, pointHistoryLoads);
+    }
 
     /**
      * 사용자 ID에 해당하는 Lock을 가져오거나 생성
      */
     private Lock getUserLock(long userId) {
-        return userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+        return userLockProvider.getLock(userId);
+    }
+
+    /**
+     * Lock 획득 후 대기 시간을 기록
+     * - 사용자당 대기 요청 수나 작업별 대기 시간을 넘으면 UserLockUnavailableException 으로 거절한다.
+     * @return Lock 획득 시각 (nanoTime, 보유 시간 계산용)
+     */
+    private long lock(long userId, Lock lock, String operation) {
+        long startNanos = System.nanoTime();
+        try {
+            userLockAdmission.lock(userId, lock, operation);
+        } catch (UserLockUnavailableException e) {
+            pointMetrics.recordLockWait(operation, System.nanoTime() - startNanos);
+            pointMetrics.countLockRejection(operation, e.getReason());
+            throw e;
+        }
+        long acquiredNanos = System.nanoTime();
+        pointMetrics.recordLockWait(operation, acquiredNanos - startNanos);
+        return acquiredNanos;
+    }
+
+    /**
+     * Lock 해제 후 보유 시간을 기록
+     */
+    private void unlock(Lock lock, String operation, long acquiredNanos) {
+        lock.unlock();
+        pointMetrics.recordLockHold(operation, System.nanoTime() - acquiredNanos);
     }
 
     @Override
     public UserPoint getUserPoint(long id) {
-        return userPointTable.selectById(id);
+        return userPointCache.getVersioned(id, (key, version) -> userPointLoads.execute(new UserPointLoad(key, version), () ->
+                pointMetrics.timeTable(USER_POINT_TABLE, "selectById", () -> userPointTable.selectById(key))));
+    }
+
+    /**
+     * 잔액 조회 single-flight 키
+     * @param userId 사용자 ID
+     * @param cacheVersion 조회 시작 시점의 캐시 쓰기 버전
+     */
+    private record UserPointLoad(long userId, long cacheVersion) {
     }
 
     @Override
     public List<PointHistory> getPointHistory(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryLoads.execute(userId, () ->
+                pointMetrics.timeTable(POINT_HISTORY_TABLE, "selectAllByUserId", () -> pointHistoryRepository.selectAllByUserId(userId)));
+    }
+
+    public SingleFlight.Stats userPointLoadStats() {
+        return userPointLoads.stats();
+    }
+
+    public SingleFlight.Stats pointHistoryLoadStats() {
+        return pointHistoryLoads.stats();
+    }
+
+    /**
+     * Lock 안에서 갱신 전 잔액 조회
+     * - Lock 을 잡기 전에 시작된 조회 결과에 합쳐지면 이전 잔액을 볼 수 있으므로 single-flight 를 거치지 않는다.
+     * - Lock 밖의 조회가 읽은 이전 잔액은 캐시에 저장되지 않으므로(BoundedCache 쓰기 버전) 캐시 값은 마지막으로 저장한 잔액이다.
+     */
+    private UserPoint getUserPointForUpdate(long id) {
+        return userPointCache.get(id, key ->
+                pointMetrics.timeTable(USER_POINT_TABLE, "selectById", () -> userPointTable.selectById(key)));
     }
 
+    @Override
+    public List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        return pointHistoryRepository.selectByUserId(userId, afterId, fromMillis, toMillis, pageSize);
+    }
+
+    @Override
+    public Iterator<PointHistory> iteratePointHistory(long userId) {
+        return pointHistoryRepository.iterateByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAllPointHistory() {
+        return pointHistoryRepository.iterateAll();
+    }
+
+    @Override
+    public PointSummary getPointSummary(long userId) {
+        return pointHistoryRepository.summarize(userId);
+    }
+
+    /**
+     * 사용자 Lock 안에서 잔액과 내역 집계를 읽어, 진행 중인 충전/사용과 겹치지 않게 비교한다.
+     */
+    @Override
+    public PointVerification verify(long userId) {
+        Lock lock = getUserLock(userId);
+        long acquiredNanos = lock(userId, lock, "verify");
+        try {
+            return PointVerification.of(getUserPointForUpdate(userId), pointHistoryRepository.summarize(userId));
+        } finally {
+            unlock(lock, "verify", acquiredNanos);
+        }
+    }
+
+    /**
+     * 포인트 충전 (group commit)
+     * - 충전 요청은 먼저 사용자 대기열에 들어가고, Lock 을 잡은 스레드가 그때까지 쌓인 충전을 모두 꺼내
+     *   항목별로 정책을 검증한 뒤 잔액 저장 1회, 내역 일괄 저장으로 반영한다.
+     * - Lock 을 잡았을 때 이미 다른 스레드가 반영했으면 바로 결과를 반환한다.
+     * - 각 호출자는 자기 충전까지 반영된 잔액(또는 정책 위반 예외)을 받는다.
+     */
     @Override
     public UserPoint charge(long id, long amount) {
+        PendingCharge pendingCharge = new PendingCharge(amount);
+        Queue<PendingCharge> queue = pendingCharges.computeIfAbsent(id, key -> new ConcurrentLinkedQueue<>());
+        queue.add(pendingCharge);
+
         //비관적락 구현
         Lock lock = getUserLock(id);
-        lock.lock();
+        long acquiredNanos;
         try {
-            // 현재 포인트 조회
-            UserPoint currentUserPoint = getUserPoint(id);
-            long currentPoint = (currentUserPoint == null || currentUserPoint.point() == 0) ? 0 : currentUserPoint.point();
-
-            //정책1: 포인트 충전은 100만원 이상 할 수 없다.
-            if(amount >= 1000000){
-                throw new InsufficientPointException("포인트를 100만원 이상 충전할 수 없습니다.");
+            acquiredNanos = lock(id, lock, "charge");
+        } catch (UserLockUnavailableException e) {
+            // 대기열에서 빼지 못했으면 이미 다른 스레드가 반영 중이므로 그 결과를 받는다.
+            if (!queue.remove(pendingCharge)) {
+                return awaitCharge(pendingCharge);
+            }
+            if (queue.isEmpty()) {
+                pendingCharges.remove(id, queue);
             }
+            throw e;
+        }
+        try {
+            if (!pendingCharge.result.isDone()) {
+                commitPendingCharges(id, queue);
+            }
+        } finally {
+            unlock(lock, "charge", acquiredNanos);
+        }
 
-            // 포인트 충전
-            long newPoint = currentPoint + amount;
-            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, newPoint,0);
+        return awaitCharge(pendingCharge);
+    }
 
-            // 충전 내역 기록
-            long updateMillis = System.currentTimeMillis();
-            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, updateMillis);
+    private static UserPoint awaitCharge(PendingCharge pendingCharge) {
+        try {
+            return pendingCharge.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-            return updatedUserPoint;
-        } finally {
-            lock.unlock();
+    /**
+     * 대기열에 쌓인 충전을 모두 꺼내 한 번에 반영 (호출자가 사용자 Lock 을 잡고 있어야 한다)
+     */
+    private void commitPendingCharges(long id, Queue<PendingCharge> queue) {
+        List<PendingCharge> batch = new ArrayList<>();
+        for (PendingCharge pendingCharge = queue.poll(); pendingCharge != null; pendingCharge = queue.poll()) {
+            batch.add(pendingCharge);
+        }
+        // 비어 있는 대기열은 제거한다. (그 사이 대기열에 들어간 충전은 해당 호출자가 Lock 을 잡은 뒤 반영)
+        if (queue.isEmpty()) {
+            pendingCharges.remove(id, queue);
+        }
+
+        try {
+            List<Long> amounts = new ArrayList<>(batch.size());
+            for (PendingCharge pendingCharge : batch) {
+                amounts.add(pendingCharge.amount);
+            }
+            List<ChargeOutcome> outcomes = chargeLocked(id, amounts);
+            for (int i = 0; i < batch.size(); i++) {
+                ChargeOutcome outcome = outcomes.get(i);
+                if (outcome.failure() != null) {
+                    batch.get(i).result.completeExceptionally(outcome.failure());
+                } else {
+                    batch.get(i).result.complete(outcome.userPoint());
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            batch.forEach(pendingCharge -> pendingCharge.result.completeExceptionally(e));
         }
     }
 
@@ -74,39 +308,177 @@ public class PointServiceImpl implements PointService {
     public UserPoint use(long id, long amount, long cost) {
         //비관적락 구현
         Lock lock = getUserLock(id);
-        lock.lock();
+        long acquiredNanos = lock(id, lock, "use");
         try {
             // 현재 포인트 조회
-            UserPoint currentUserPoint = getUserPoint(id);
+            UserPoint currentUserPoint = getUserPointForUpdate(id);
             long currentPoint = (currentUserPoint == null || currentUserPoint.point() == 0) ? 0 : currentUserPoint.point();
 
-            // 포인트 부족 예외 처리
-            if (currentPoint <= 0 || currentPoint < amount) {
-                throw new InsufficientPointException("포인트가 부족합니다.");
-            }
-
-            // 정책2: 포인트는 10000원 이하의 가격에는 사용할 수 없다.
-            if (cost <= 10000) {
-                throw new InsufficientPointException("10000원 이하의 가격에는 포인트를 사용할 수 없습니다.");
-            }
-
-            // 정책3: 포인트는 결제 금액의 최대 50%까지만 사용 가능
-            long maxUsablePoint = cost / 2;
-            if (amount > maxUsablePoint) {
-                throw new InsufficientPointException("포인트는 결제 금액의 최대 50%까지만 사용할 수 있습니다.");
-            }
+            // 포인트 부족, 정책2(10000원 이하 사용 불가), 정책3(결제 금액의 50%까지) 검증
+            PointPolicy.validateUse(currentPoint, amount, cost);
 
             // 포인트 사용
             long balance = currentPoint - amount;
-            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, balance, cost);
+            UserPoint updatedUserPoint = pointMetrics.timeTable(USER_POINT_TABLE, "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, balance, cost));
+            userPointCache.put(id, updatedUserPoint);
 
             // 사용 내역 기록
             long updateMillis = System.currentTimeMillis();
-            pointHistoryTable.insert(id, amount, TransactionType.USE, updateMillis);
+            pointMetrics.timeTable(POINT_HISTORY_TABLE, "insert", () -> pointHistoryRepository.insert(id, amount, TransactionType.USE, updateMillis));
 
             return updatedUserPoint;
+        } catch (InsufficientPointException e) {
+            pointMetrics.countRejection(e.getReason());
+            throw e;
         } finally {
-            lock.unlock();
+            unlock(lock, "use", acquiredNanos);
+        }
+    }
+
+    @Override
+    public List<ChargeResult> chargeAll(List<ChargeCommand> commands) {
+        try {
+            return chargeAllAsync(commands).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 그룹을 batchExecutor 에서 처리하고, 호출 스레드는 기다리지 않는다.
+     * - 사용자 그룹마다 잔액 저장 1번, 내역 insertAll 1번으로 반영한다. (chargeLocked)
+     */
+    @Override
+    public CompletableFuture<List<ChargeResult>> chargeAllAsync(List<ChargeCommand> commands) {
+        if (commands.size() > MAX_CHARGE_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 충전은 최대 " + MAX_CHARGE_BATCH_SIZE + "건까지 가능합니다.");
+        }
+
+        // 사용자별로 묶어 사용자마다 Lock 을 한 번만 잡고, 사용자 그룹끼리는 병렬로 처리한다.
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByUser.computeIfAbsent(commands.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        ChargeResult[] results = new ChargeResult[commands.size()];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(indexesByUser.size());
+        indexesByUser.forEach((userId, indexes) -> tasks.add(CompletableFuture.runAsync(() -> {
+            List<ChargeCommand> userCommands = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                userCommands.add(commands.get(index));
+            }
+
+            List<Long> amounts = new ArrayList<>(userCommands.size());
+            for (ChargeCommand command : userCommands) {
+                amounts.add(command.amount());
+            }
+
+            Lock lock = getUserLock(userId);
+            long acquiredNanos;
+            try {
+                acquiredNanos = lock(userId, lock, "chargeAll");
+            } catch (UserLockUnavailableException e) {
+                // 이 사용자의 항목만 실패로 응답하고 다른 사용자 그룹은 계속 처리한다.
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = ChargeResult.failure(userCommands.get(i), e.getMessage());
+                }
+                return;
+            }
+            try {
+                List<ChargeOutcome> outcomes = chargeLocked(userId, amounts);
+                for (int i = 0; i < indexes.size(); i++) {
+                    ChargeOutcome outcome = outcomes.get(i);
+                    results[indexes.get(i)] = outcome.failure() != null
+                            ? ChargeResult.failure(userCommands.get(i), outcome.failure().getMessage())
+                            : ChargeResult.success(userCommands.get(i), outcome.userPoint().point());
+                }
+            } finally {
+                unlock(lock, "chargeAll", acquiredNanos);
+            }
+        }, batchExecutor)));
+
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> Arrays.asList(results));
+    }
+
+    /**
+     * 이 인스턴스가 만든 일괄 충전 executor 를 종료한다. (진행 중인 사용자 그룹은 마저 처리)
+     */
+    @Override
+    public void close() {
+        if (ownsBatchExecutor) {
+            batchExecutor.shutdown();
         }
     }
+
+    /**
+     * 한 사용자의 충전 여러 건을 한 번에 반영 (호출자가 사용자 Lock 을 잡고 있어야 한다)
+     * - 항목별로 충전 정책을 검증하고, 통과한 항목만 순서대로 잔액에 더한다.
+     * - 잔액은 한 번만 저장하고, 내역은 통과한 항목을 일괄 저장한다.
+     * @return 요청과 같은 순서의 항목별 결과 (성공 항목은 해당 항목까지 반영된 잔액)
+     */
+    private List<ChargeOutcome> chargeLocked(long id, List<Long> amounts) {
+        long point = getUserPointForUpdate(id).point();
+
+        long[] pointAfter = new long[amounts.size()];
+        InsufficientPointException[] failures = new InsufficientPointException[amounts.size()];
+        List<Long> charged = new ArrayList<>(amounts.size());
+        for (int i = 0; i < amounts.size(); i++) {
+            long amount = amounts.get(i);
+            try {
+                //정책1: 포인트 충전은 100만원 이상 할 수 없다.
+                PointPolicy.validateCharge(amount);
+            } catch (InsufficientPointException e) {
+                pointMetrics.countRejection(e.getReason());
+                failures[i] = e;
+                continue;
+            }
+            point += amount;
+            pointAfter[i] = point;
+            charged.add(amount);
+        }
+
+        UserPoint updatedUserPoint = null;
+        if (!charged.isEmpty()) {
+            long finalPoint = point;
+            updatedUserPoint = pointMetrics.timeTable(USER_POINT_TABLE, "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, finalPoint, 0));
+            userPointCache.put(id, updatedUserPoint);
+
+            long updateMillis = System.currentTimeMillis();
+            pointMetrics.timeTable(POINT_HISTORY_TABLE, "insertAll", () -> pointHistoryRepository.insertAll(id, charged, TransactionType.CHARGE, updateMillis));
+        }
+
+        List<ChargeOutcome> outcomes = new ArrayList<>(amounts.size());
+        for (int i = 0; i < amounts.size(); i++) {
+            if (failures[i] != null) {
+                outcomes.add(new ChargeOutcome(null, failures[i]));
+            } else if (pointAfter[i] == point) {
+                outcomes.add(new ChargeOutcome(updatedUserPoint, null));
+            } else {
+                outcomes.add(new ChargeOutcome(new UserPoint(id, pointAfter[i], updatedUserPoint.updateMillis(), 0), null));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Lock 을 기다리는 충전 요청
+     */
+    private static final class PendingCharge {
+        private final long amount;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private PendingCharge(long amount) {
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * 충전 항목별 결과 (성공 시 userPoint, 정책 위반 시 failure)
+     */
+    private record ChargeOutcome(UserPoint userPoint, InsufficientPointException failure) {
+    }
 }
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.service;
+
+/**
+ * 사용자 ID -> shard 번호
+ * - hash(userId) % shardCount 로 정한다. 해시는 JVM/실행과 무관한 고정 함수이므로
+ *   shard 를 여러 JVM 으로 나누더라도 호출자마다 같은 shard 로 보낸다.
+ * - 연속된 ID 도 고르게 나뉘도록 ID 를 섞은 뒤 나머지를 구한다.
+ */
+public final class PointShardRouter {
+
+    private final int shardCount;
+
+    public PointShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shard 수는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long userId) {
+        return Math.floorMod(hash(userId), shardCount);
+    }
+
+    // Murmur3 finalizer
+    private static long hash(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
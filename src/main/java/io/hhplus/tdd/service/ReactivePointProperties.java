@@ -0,0 +1,18 @@
+package io.hhplus.tdd.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * reactive 모드 설정 (point.reactive.*)
+ * @param threadCap 테이블 호출(블로킹)을 실행하는 스레드 최대 수
+ * @param queuedTaskCap 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수 (초과 시 거절)
+ * @param maxPendingPerUser 사용자당 직렬 큐에 쌓일 수 있는 충전/사용 작업 수 (초과 시 503, 0 이면 제한 없음)
+ */
+@ConfigurationProperties(prefix = "point.reactive")
+public record ReactivePointProperties(
+        @DefaultValue("64") int threadCap,
+        @DefaultValue("100000") int queuedTaskCap,
+        @DefaultValue("32") int maxPendingPerUser
+) {
+}
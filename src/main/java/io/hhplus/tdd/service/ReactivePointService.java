@@ -0,0 +1,40 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 포인트 서비스 (point.service.mode=reactive)
+ * - PointService 와 같은 기능을 Mono/Flux 로 반환한다.
+ */
+public interface ReactivePointService {
+
+    /**
+     * 포인트 조회
+     * @param id 사용자 ID
+     */
+    Mono<UserPoint> getUserPoint(long id);
+
+    /**
+     * 포인트 내역 조회
+     * @param userId 사용자 ID
+     */
+    Flux<PointHistory> getPointHistory(long userId);
+
+    /**
+     * 포인트 충전
+     * @param id 사용자 ID
+     * @param amount 충전 포인트
+     */
+    Mono<UserPoint> charge(long id, long amount);
+
+    /**
+     * 포인트 사용
+     * @param id 사용자 ID
+     * @param amount 사용 포인트
+     * @param cost 결제 금액
+     */
+    Mono<UserPoint> use(long id, long amount, long cost);
+}
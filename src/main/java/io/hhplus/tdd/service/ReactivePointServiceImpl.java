@@ -0,0 +1,130 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.UserSerialQueue;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 논블로킹 PointService (point.service.mode=reactive)
+ * - 같은 사용자의 충전/사용은 ReentrantLock 대신 사용자별 직렬 큐(UserSerialQueue)로 순서를 보장한다.
+ *   호출 스레드(event-loop)는 큐에 넣기만 하고 대기하지 않는다.
+ *   사용자당 대기 작업이 point.reactive.max-pending-per-user 를 넘으면 UserLockUnavailableException(503)으로 바로 실패한다.
+ * - 블로킹 테이블 호출은 크기가 제한된 pointTableScheduler 에서만 실행한다.
+ * - 캐시에 있는 잔액 조회는 스케줄러를 거치지 않고 바로 반환한다.
+ */
+@Service
+@ConditionalOnProperty(name = "point.service.mode", havingValue = "reactive")
+public class ReactivePointServiceImpl implements ReactivePointService {
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final BoundedCache<Long, UserPoint> userPointCache;
+    private final Scheduler pointTableScheduler;
+
+    // 사용자별 직렬 실행 큐 (작업은 pointTableScheduler 에서 실행)
+    private final UserSerialQueue userSerialQueue;
+
+    /**
+     * 사용자별 대기 작업 수 제한 없이 생성
+     */
+    public ReactivePointServiceImpl(UserPointTable userPointTable,
+                                    PointHistoryRepository pointHistoryRepository,
+                                    BoundedCache<Long, UserPoint> userPointCache,
+                                    Scheduler pointTableScheduler) {
+        this(userPointTable, pointHistoryRepository, userPointCache, pointTableScheduler, 0);
+    }
+
+    @Autowired
+    public ReactivePointServiceImpl(UserPointTable userPointTable,
+                                    PointHistoryRepository pointHistoryRepository,
+                                    BoundedCache<Long, UserPoint> userPointCache,
+                                    Scheduler pointTableScheduler,
+                                    ReactivePointProperties properties) {
+        this(userPointTable, pointHistoryRepository, userPointCache, pointTableScheduler, properties.maxPendingPerUser());
+    }
+
+    private ReactivePointServiceImpl(UserPointTable userPointTable,
+                                     PointHistoryRepository pointHistoryRepository,
+                                     BoundedCache<Long, UserPoint> userPointCache,
+                                     Scheduler pointTableScheduler,
+                                     int maxPendingPerUser) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userPointCache = userPointCache;
+        this.pointTableScheduler = pointTableScheduler;
+        this.userSerialQueue = new UserSerialQueue(pointTableScheduler::schedule, maxPendingPerUser);
+    }
+
+    @Override
+    public Mono<UserPoint> getUserPoint(long id) {
+        return Mono.defer(() -> {
+            UserPoint cached = userPointCache.get(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return Mono.fromCallable(() -> userPointCache.get(id, userPointTable::selectById))
+                    .subscribeOn(pointTableScheduler);
+        });
+    }
+
+    @Override
+    public Flux<PointHistory> getPointHistory(long userId) {
+        return Flux.defer(() -> Flux.fromIterable(pointHistoryRepository.selectAllByUserId(userId)))
+                .subscribeOn(pointTableScheduler);
+    }
+
+    @Override
+    public Mono<UserPoint> charge(long id, long amount) {
+        return Mono.defer(() -> Mono.fromFuture(userSerialQueue.submit(id, () -> {
+            // 현재 포인트 조회 (같은 사용자의 앞 작업이 끝난 뒤 실행되므로 최신 잔액)
+            UserPoint currentUserPoint = userPointCache.get(id, userPointTable::selectById);
+
+            //정책1: 포인트 충전은 100만원 이상 할 수 없다.
+            PointPolicy.validateCharge(amount);
+
+            // 포인트 충전
+            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, currentUserPoint.point() + amount, 0);
+            userPointCache.put(id, updatedUserPoint);
+
+            // 충전 내역 기록
+            pointHistoryRepository.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            return updatedUserPoint;
+        })));
+    }
+
+    @Override
+    public Mono<UserPoint> use(long id, long amount, long cost) {
+        return Mono.defer(() -> Mono.fromFuture(userSerialQueue.submit(id, () -> {
+            // 현재 포인트 조회 (같은 사용자의 앞 작업이 끝난 뒤 실행되므로 최신 잔액)
+            UserPoint currentUserPoint = userPointCache.get(id, userPointTable::selectById);
+
+            // 포인트 부족, 정책2(10000원 이하 사용 불가), 정책3(결제 금액의 50%까지) 검증
+            PointPolicy.validateUse(currentUserPoint.point(), amount, cost);
+
+            // 포인트 사용
+            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, currentUserPoint.point() - amount, cost);
+            userPointCache.put(id, updatedUserPoint);
+
+            // 사용 내역 기록
+            pointHistoryRepository.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+            return updatedUserPoint;
+        })));
+    }
+
+    /**
+     * 작업이 남아 있는 사용자 수
+     */
+    public int pendingUsers() {
+        return userSerialQueue.size();
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * sharded 모드 설정 (point.sharded.*)
+ * @param shards shard 수 (shard 마다 잔액/내역 테이블과 사용자별 Lock 을 따로 가진다)
+ */
+@ConfigurationProperties(prefix = "point.sharded")
+public record ShardedPointProperties(
+        @DefaultValue("8") int shards
+) {
+}
@@ -0,0 +1,239 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 사용자 ID 로 shard 를 골라 처리하는 PointService (point.service.mode=sharded)
+ * - shard 는 잔액/내역 테이블과 사용자별 Lock 을 각자 가진 독립된 PointService 이다.
+ *   한 사용자의 요청은 항상 같은 shard 로 가므로 shard 사이에는 공유 상태도 Lock 도 없다.
+ * - 사용자 단위 요청(조회/충전/사용/내역)은 해당 shard 하나로 보내고,
+ *   일괄 충전과 전체 조회(scatterGather, iterateAllPointHistory)는 모든 shard 에 나눠 보낸 뒤 결과를 모은다.
+ * - shard 는 PointService 인터페이스로만 다루므로 다른 JVM 의 shard 를 원격 호출하는 구현으로 바꿔 끼울 수 있다.
+ */
+public class ShardedPointServiceImpl implements PointService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedPointServiceImpl.class);
+
+    private final List<PointService> shards;
+    private final PointShardRouter router;
+
+    // shard 가 쓰는 테이블/저장소 (close 시 함께 닫는다)
+    private final List<AutoCloseable> resources;
+
+    // 여러 shard 에 동시에 요청을 보내는 스레드 풀 (shard 당 1개)
+    private final ExecutorService scatterExecutor;
+
+    public ShardedPointServiceImpl(List<PointService> shards) {
+        this(shards, List.of());
+    }
+
+    public ShardedPointServiceImpl(List<PointService> shards, List<AutoCloseable> resources) {
+        this.shards = List.copyOf(shards);
+        this.resources = List.copyOf(resources);
+        this.router = new PointShardRouter(this.shards.size());
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scatterExecutor = Executors.newFixedThreadPool(this.shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "point-shard-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 사용자를 담당하는 shard
+     */
+    public PointService shardOf(long userId) {
+        return shards.get(router.shardOf(userId));
+    }
+
+    @Override
+    public UserPoint getUserPoint(long id) {
+        return shardOf(id).getUserPoint(id);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId) {
+        return shardOf(userId).getPointHistory(userId);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long userId, long afterId, int limit, long fromMillis, long toMillis) {
+        return shardOf(userId).getPointHistory(userId, afterId, limit, fromMillis, toMillis);
+    }
+
+    @Override
+    public Iterator<PointHistory> iteratePointHistory(long userId) {
+        return shardOf(userId).iteratePointHistory(userId);
+    }
+
+    /**
+     * shard 순서대로 각 shard 의 전체 내역을 이어서 읽는다. (다음 shard 는 앞 shard 를 다 읽은 뒤에 연다)
+     */
+    @Override
+    public Iterator<PointHistory> iterateAllPointHistory() {
+        Iterator<PointService> remaining = shards.iterator();
+        return new Iterator<>() {
+            private Iterator<PointHistory> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && remaining.hasNext()) {
+                    current = remaining.next().iterateAllPointHistory();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public PointHistory next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public PointSummary getPointSummary(long userId) {
+        return shardOf(userId).getPointSummary(userId);
+    }
+
+    @Override
+    public PointVerification verify(long userId) {
+        return shardOf(userId).verify(userId);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        return shardOf(id).charge(id, amount);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, long cost) {
+        return shardOf(id).use(id, amount, cost);
+    }
+
+    /**
+     * 요청을 shard 별로 나눠 shard 마다 한 번에 일괄 충전하고, 결과는 요청 순서대로 되돌린다.
+     * - 같은 사용자의 요청은 같은 shard 에 요청 순서대로 전달된다.
+     */
+    @Override
+    public List<ChargeResult> chargeAll(List<ChargeCommand> commands) {
+        return await(chargeAllAsync(commands));
+    }
+
+    /**
+     * shard 마다 chargeAllAsync 를 호출하고 결과를 요청 순서대로 합친다. (호출 스레드는 기다리지 않는다)
+     */
+    @Override
+    public CompletableFuture<List<ChargeResult>> chargeAllAsync(List<ChargeCommand> commands) {
+        if (commands.size() > MAX_CHARGE_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 충전은 최대 " + MAX_CHARGE_BATCH_SIZE + "건까지 가능합니다.");
+        }
+
+        // shard 번호 -> 요청 위치 목록
+        List<List<Integer>> positions = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            positions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            positions.get(router.shardOf(commands.get(i).userId())).add(i);
+        }
+
+        ChargeResult[] results = new ChargeResult[commands.size()];
+        List<CompletableFuture<Void>> pending = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            List<Integer> shardPositions = positions.get(shard);
+            if (shardPositions.isEmpty()) {
+                continue;
+            }
+            PointService service = shards.get(shard);
+            List<ChargeCommand> shardCommands = new ArrayList<>(shardPositions.size());
+            for (int position : shardPositions) {
+                shardCommands.add(commands.get(position));
+            }
+            // shard 의 chargeAllAsync 가 블로킹 기본 구현이어도 호출 스레드를 붙잡지 않도록 scatterExecutor 에서 호출한다.
+            pending.add(CompletableFuture.supplyAsync(() -> service.chargeAllAsync(shardCommands), scatterExecutor)
+                    .thenCompose(Function.identity())
+                    .thenAccept(shardResults -> {
+                        for (int i = 0; i < shardPositions.size(); i++) {
+                            results[shardPositions.get(i)] = shardResults.get(i);
+                        }
+                    }));
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> Arrays.asList(results));
+    }
+
+    /**
+     * 모든 shard 에 같은 조회를 동시에 보내고 결과를 shard 순서대로 모은다. (전체 사용자 대상 관리용 조회)
+     * @param query shard 하나에 대한 조회
+     * @return shard 별 결과 (shard 번호 순)
+     */
+    public <R> List<R> scatterGather(Function<PointService, R> query) {
+        List<CompletableFuture<R>> pending = new ArrayList<>(shards.size());
+        for (PointService shard : shards) {
+            pending.add(CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor));
+        }
+        await(CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)));
+        return pending.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * scatter 스레드를 종료하고, 닫을 수 있는 shard 와 shard 의 테이블/저장소를 닫는다.
+     */
+    @Override
+    public void close() {
+        scatterExecutor.shutdown();
+        List<AutoCloseable> closeables = new ArrayList<>();
+        for (PointService shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeables.add(closeable);
+            }
+        }
+        closeables.addAll(resources);
+        for (AutoCloseable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.error("point shard close failed: {}", closeable, e);
+            }
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> all) {
+        try {
+            return all.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.analytics;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.RollupPointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointRollupEngineTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private final PointRollupEngine engine = new PointRollupEngine(
+            new PointRollupProperties(Duration.ofHours(2), Duration.ofDays(7), Duration.ofDays(400)));
+
+    @Test
+    @DisplayName("내역을 분/시간/일 bucket 에 종류별로 더하고, 구간 조회는 bucket 시작 시각 순서로 반환한다")
+    void record_thenQueryByGranularity() {
+        // given: 첫날 00:00, 00:00:30, 00:01, 01:00 과 다음날 충전/사용 (분 단위는 다음날 내역이 들어오기 전에 조회)
+        long day = 10 * DAY;
+        engine.record(1L, TransactionType.CHARGE, 1000L, day);
+        engine.record(2L, TransactionType.CHARGE, 2000L, day + 30_000);
+        engine.record(1L, TransactionType.USE, 500L, day + MINUTE);
+        engine.record(1L, TransactionType.CHARGE, 300L, day + HOUR);
+        List<PointRollupBucket> minutes = engine.query(RollupGranularity.MINUTE, TransactionType.CHARGE, day, day + HOUR);
+        engine.recordAll(3L, TransactionType.CHARGE, 700L, 2, day + DAY);
+
+        // when
+        List<PointRollupBucket> hours = engine.query(RollupGranularity.HOUR, null, day, day + DAY);
+        List<PointRollupBucket> days = engine.query(RollupGranularity.DAY, TransactionType.CHARGE, day, day + 2 * DAY);
+
+        // then: 분 단위 - 00:00 bucket 에 2건, 2명
+        assertThat(minutes).containsExactly(
+                new PointRollupBucket(RollupGranularity.MINUTE, TransactionType.CHARGE, day, 3000L, 2L, 2L));
+
+        // then: 시간 단위 - 00시 충전/사용, 01시 충전
+        assertThat(hours).containsExactly(
+                new PointRollupBucket(RollupGranularity.HOUR, TransactionType.CHARGE, day, 3000L, 2L, 2L),
+                new PointRollupBucket(RollupGranularity.HOUR, TransactionType.USE, day, 500L, 1L, 1L),
+                new PointRollupBucket(RollupGranularity.HOUR, TransactionType.CHARGE, day + HOUR, 300L, 1L, 1L));
+
+        // then: 일 단위 - 같은 사용자는 한 번만 센다
+        assertThat(days).containsExactly(
+                new PointRollupBucket(RollupGranularity.DAY, TransactionType.CHARGE, day, 3300L, 3L, 2L),
+                new PointRollupBucket(RollupGranularity.DAY, TransactionType.CHARGE, day + DAY, 700L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 작은 단위 bucket 은 지우고, 큰 단위 bucket 은 남긴다")
+    void compaction_dropsOldFineBuckets() {
+        // given: 3시간 동안 매분 충전 (분 단위 보관 기간 2시간)
+        long start = 100 * DAY;
+        for (long minute = 0; minute < 180; minute++) {
+            engine.record(minute, TransactionType.CHARGE, 10L, start + minute * MINUTE);
+        }
+
+        // when
+        List<PointRollupBucket> minutes = engine.query(RollupGranularity.MINUTE, TransactionType.CHARGE, start, start + DAY);
+        List<PointRollupBucket> hours = engine.query(RollupGranularity.HOUR, TransactionType.CHARGE, start, start + DAY);
+
+        // then: 분 단위는 최근 2시간(+ 현재 bucket)만, 시간 단위는 3시간 모두
+        assertThat(minutes).hasSize(121);
+        assertThat(minutes.get(0).startMillis()).isEqualTo(start + 59 * MINUTE);
+        assertThat(engine.size(RollupGranularity.MINUTE)).isEqualTo(121);
+        assertThat(hours).hasSize(3);
+        assertThat(hours.stream().mapToLong(PointRollupBucket::amount).sum()).isEqualTo(1800L);
+
+        // then: 보관 기간이 지난 시각의 내역은 분 단위에 다시 생기지 않는다
+        engine.record(1L, TransactionType.CHARGE, 10L, start);
+        assertThat(engine.query(RollupGranularity.MINUTE, TransactionType.CHARGE, start, start + MINUTE)).isEmpty();
+        assertThat(engine.query(RollupGranularity.HOUR, TransactionType.CHARGE, start, start + HOUR).get(0).amount()).isEqualTo(610L);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 여러 스레드가 같은 bucket 에 동시에 더해도 금액/건수가 정확하고 사용자 수는 오차 범위 안이다")
+    void concurrentRecord_sameBucket() throws Exception {
+        // given: 8 스레드가 서로 다른 사용자 5000명씩, 같은 분에 충전
+        int threadCount = 8;
+        int usersPerThread = 5000;
+        long millis = 200 * DAY;
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                long base = (long) t * usersPerThread;
+                results.add(executorService.submit(() -> {
+                    for (long userId = base; userId < base + usersPerThread; userId++) {
+                        engine.record(userId, TransactionType.CHARGE, 1L, millis);
+                    }
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // then
+        PointRollupBucket bucket = engine.query(RollupGranularity.MINUTE, TransactionType.CHARGE, millis, millis + MINUTE).get(0);
+        long users = (long) threadCount * usersPerThread;
+        assertThat(bucket.amount()).isEqualTo(users);
+        assertThat(bucket.count()).isEqualTo(users);
+        assertThat(bucket.distinctUsers()).isBetween((long) (users * 0.9), (long) (users * 1.1));
+    }
+
+    @Test
+    @DisplayName("내역 저장소를 통해 저장한 내역과 이미 있던 내역이 집계에 반영된다")
+    void repository_recordsAndRebuilds() {
+        // given: 집계 없이 저장된 내역
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable());
+        delegate.insert(1L, 1000L, TransactionType.CHARGE, 0L);
+
+        // when
+        RollupPointHistoryRepository repository = new RollupPointHistoryRepository(delegate, engine);
+        repository.insertAll(2L, List.of(100L, 200L), TransactionType.CHARGE, 10L);
+        repository.insert(2L, 50L, TransactionType.USE, 20L);
+
+        // then
+        assertThat(engine.query(RollupGranularity.DAY, null, 0L, DAY)).containsExactly(
+                new PointRollupBucket(RollupGranularity.DAY, TransactionType.CHARGE, 0L, 1300L, 3L, 2L),
+                new PointRollupBucket(RollupGranularity.DAY, TransactionType.USE, 0L, 50L, 1L, 1L));
+        assertThat(repository.selectAllByUserId(2L)).hasSize(3);
+    }
+}
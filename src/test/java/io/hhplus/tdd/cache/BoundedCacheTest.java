@@ -0,0 +1,117 @@
+package io.hhplus.tdd.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("없는 값은 loader 로 한 번만 읽고 이후에는 캐시에서 반환한다")
+    void readThrough() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when: 같은 키를 두 번 조회
+        String first = cache.get(1L, key -> "value-" + loads.incrementAndGet());
+        String second = cache.get(1L, key -> "value-" + loads.incrementAndGet());
+
+        // then: loader 는 한 번만 호출됨
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1L);
+        assertThat(cache.stats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽는 동안 저장된 최신 값을 읽은 값으로 덮어쓰지 않는다")
+    void readThrough_doesNotOverwriteNewerPut() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ZERO);
+
+        // when: loader 실행 중에 write-through 로 최신 값이 저장됨
+        String result = cache.get(1L, key -> {
+            cache.put(1L, "newer");
+            return "stale";
+        });
+
+        // then: 최신 값 유지
+        assertThat(result).isEqualTo("newer");
+        assertThat(cache.get(1L)).isEqualTo("newer");
+    }
+
+    @Test
+    @DisplayName("읽는 동안 저장된 최신 값이 먼저 제거되어도 읽은 이전 값을 저장하지 않는다")
+    void readThrough_doesNotStoreStaleAfterNewerPutEvicted() {
+        // given: 1건만 보관하는 캐시
+        BoundedCache<Long, String> cache = new BoundedCache<>(1, Duration.ZERO);
+
+        // when: loader 실행 중에 최신 값이 저장되었다가 다른 항목 저장으로 LRU 제거됨
+        String result = cache.get(1L, key -> {
+            cache.put(1L, "newer");
+            cache.put(2L, "other");
+            return "stale";
+        });
+
+        // then: 읽은 값은 반환만 하고 캐시에는 저장하지 않음 (다음 조회는 다시 읽는다)
+        assertThat(result).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, key -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.get(1L)).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void lruEviction() {
+        // given: 최대 2건 (segment 1개)
+        BoundedCache<Long, String> cache = new BoundedCache<>(2, Duration.ZERO);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        // when: 1을 사용한 뒤 3을 저장
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        // then: 가장 오래 사용하지 않은 2가 제거됨
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(3L)).isEqualTo("c");
+        assertThat(cache.stats().evictions()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않는다")
+    void ttlExpiration() throws InterruptedException {
+        // given: TTL 10ms
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMillis(10));
+        cache.put(1L, "a");
+
+        // when: TTL 이 지난 뒤 조회
+        Thread.sleep(30);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이면 저장하지 않는다")
+    void disabled() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(0, Duration.ZERO);
+
+        // when
+        cache.put(1L, "a");
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, key -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.size()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 조회는 loader 를 한 번만 실행한다")
+    void concurrentCalls_coalesced() throws Exception {
+        // given: 시작 신호를 받을 때까지 끝나지 않는 loader
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when: 10개 스레드가 같은 키로 동시에 조회
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+
+                }
+                return "value";
+            })));
+        }
+        // 나머지 스레드가 실행 중인 조회에 합쳐질 때까지 대기
+        while (singleFlight.stats().coalesced() < threadCount - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // then: loader 는 한 번, 모든 호출이 같은 결과를 받음
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        executorService.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.stats().executions()).isEqualTo(1L);
+        assertThat(singleFlight.stats().coalesced()).isEqualTo((long) threadCount - 1);
+        assertThat(singleFlight.stats().inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("실행이 끝난 뒤의 조회는 loader 를 다시 실행한다")
+    void sequentialCalls_notCached() {
+        // given
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when: 순차적으로 두 번 조회
+        singleFlight.execute(1L, loads::incrementAndGet);
+        int second = singleFlight.execute(1L, loads::incrementAndGet);
+
+        // then
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("loader 예외는 호출자에게 그대로 전달된다")
+    void loaderException_propagated() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(1L, () -> {
+            throw new IllegalStateException("fail");
+        }));
+        assertThat(singleFlight.stats().inFlight()).isEqualTo(0);
+    }
+}
@@ -1,6 +1,11 @@
 package io.hhplus.tdd.controller;
 
+import io.hhplus.tdd.config.PointIdempotencyConfig;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 import io.hhplus.tdd.service.PointService;
@@ -9,20 +14,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PointController.class)
+@Import(PointIdempotencyConfig.class)
 public class PointControllerTest {
 
     @Autowired
@@ -74,6 +88,31 @@ public class PointControllerTest {
                 .andExpect(jsonPath("$[0].type").value("CHARGE"));
     }
 
+    @Test
+    @DisplayName("특정 유저의 포인트 내역을 커서(after)와 limit 으로 페이지 조회한다")
+    void getUserPointHistories_page() throws Exception {
+        // given - Mock 설정: id 10 이후 20건 조회 시 다음 내역을 반환
+        long userId = 1L;
+        long currentTime = System.currentTimeMillis();
+        List<PointHistory> expectedHistories = List.of(
+                new PointHistory(11L, userId, 1000L, TransactionType.CHARGE, currentTime)
+        );
+        given(pointService.getPointHistory(userId, 10L, 20, Long.MIN_VALUE, Long.MAX_VALUE))
+                .willReturn(expectedHistories);
+
+        // when - HTTP GET 요청 수행
+        ResultActions result = mockMvc.perform(
+                get("/point/{id}/histories", userId)
+                        .param("after", "10")
+                        .param("limit", "20")
+        );
+
+        // then - 응답 검증
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(11L));
+    }
+
     @Test
     @DisplayName("특정 유저의 포인트를 충전한다 - GREEN")
     void chargeUserPoint_success() throws Exception {
@@ -98,4 +137,93 @@ public class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(expectedPoint));
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다시 충전하면 충전하지 않고 처음 결과를 반환한다")
+    void chargeUserPoint_idempotent() throws Exception {
+        // given - Mock 설정: 충전 결과 500
+        long userId = 1L;
+        long chargeAmount = 500L;
+        given(pointService.charge(userId, chargeAmount))
+                .willReturn(new UserPoint(userId, 500L, System.currentTimeMillis(), 0));
+
+        // when - 같은 키로 두 번 요청
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    patch("/point/{id}/charge", userId)
+                            .header("Idempotency-Key", "charge-key-1")
+                            .contentType(APPLICATION_JSON)
+                            .content(String.valueOf(chargeAmount))
+            ).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(500L));
+        }
+
+        // then - 충전은 한 번만 수행됨
+        verify(pointService, times(1)).charge(userId, chargeAmount);
+    }
+
+    @Test
+    @DisplayName("여러 유저의 포인트를 일괄 충전한다")
+    void chargeAll() throws Exception {
+        // given - Mock 설정: 2건 중 1건은 정책 위반
+        List<ChargeCommand> commands = List.of(
+                new ChargeCommand(1L, 1000L),
+                new ChargeCommand(2L, 1000000L)
+        );
+        given(pointService.chargeAllAsync(commands)).willReturn(CompletableFuture.completedFuture(List.of(
+                new ChargeResult(1L, 1000L, true, 1000L, null),
+                new ChargeResult(2L, 1000000L, false, 0L, "포인트를 100만원 이상 충전할 수 없습니다.")
+        )));
+
+        // when - HTTP POST 요청 수행 (비동기 응답)
+        MvcResult asyncResult = mockMvc.perform(
+                post("/point/charge/batch")
+                        .contentType(APPLICATION_JSON)
+                        .content("[{\"userId\":1,\"amount\":1000},{\"userId\":2,\"amount\":1000000}]")
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then - 항목별 결과 검증
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].point").value(1000L))
+                .andExpect(jsonPath("$[1].success").value(false));
+    }
+
+    @Test
+    @DisplayName("특정 유저의 포인트 내역 집계를 조회한다")
+    void getUserPointSummary() throws Exception {
+        // given - Mock 설정: 충전 15000, 사용 3000, 3건
+        long userId = 1L;
+        given(pointService.getPointSummary(anyLong())).willReturn(new PointSummary(userId, 15000L, 3000L, 3L, 100L, 300L));
+
+        // when - HTTP GET 요청 수행
+        ResultActions result = mockMvc.perform(get("/point/{id}/summary", userId));
+
+        // then - 응답 검증
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(userId))
+                .andExpect(jsonPath("$.totalCharged").value(15000L))
+                .andExpect(jsonPath("$.totalUsed").value(3000L))
+                .andExpect(jsonPath("$.count").value(3L))
+                .andExpect(jsonPath("$.balance").value(12000L));
+    }
+
+    @Test
+    @DisplayName("특정 유저의 잔액을 내역 집계와 비교해 검증한다")
+    void verifyUserPoint() throws Exception {
+        // given - Mock 설정: 잔액 5000, 내역 집계 잔액 0
+        long userId = 1L;
+        given(pointService.verify(anyLong())).willReturn(
+                PointVerification.of(new UserPoint(userId, 5000L, 0L, 0L), PointSummary.empty(userId)));
+
+        // when - HTTP GET 요청 수행
+        ResultActions result = mockMvc.perform(get("/point/{id}/verify", userId));
+
+        // then - 응답 검증
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(5000L))
+                .andExpect(jsonPath("$.expectedPoint").value(0L))
+                .andExpect(jsonPath("$.consistent").value(false));
+    }
 }
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PointHistoryExportController.class)
+public class PointHistoryExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    @DisplayName("특정 유저의 포인트 내역을 NDJSON 으로 내보낸다")
+    void export_ndjson() throws Exception {
+        // given - Mock 설정: 내역 2건
+        long userId = 1L;
+        given(pointService.iteratePointHistory(userId)).willReturn(List.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, userId, 500L, TransactionType.USE, 200L)
+        ).iterator());
+
+        // when - HTTP GET 요청 수행 (비동기 스트리밍)
+        MvcResult mvcResult = mockMvc.perform(get("/point/{id}/histories/export", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then - 한 줄에 내역 한 건씩 응답
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "{\"id\":1,\"userId\":1,\"amount\":1000,\"type\":\"CHARGE\",\"updateMillis\":100}\n"
+                                + "{\"id\":2,\"userId\":1,\"amount\":500,\"type\":\"USE\",\"updateMillis\":200}\n"
+                ));
+    }
+
+    @Test
+    @DisplayName("전체 유저의 포인트 내역을 CSV 로 내보낸다")
+    void exportAll_csv() throws Exception {
+        // given - Mock 설정: 두 사용자의 내역
+        given(pointService.iterateAllPointHistory()).willReturn(List.of(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, 2L, 3000L, TransactionType.CHARGE, 200L)
+        ).iterator());
+
+        // when - HTTP GET 요청 수행 (비동기 스트리밍)
+        MvcResult mvcResult = mockMvc.perform(get("/point/histories/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then - 헤더 + 내역 2줄
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "id,userId,amount,type,updateMillis\n"
+                                + "1,1,1000,CHARGE,100\n"
+                                + "2,2,3000,CHARGE,200\n"
+                ));
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.service.ReactivePointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReactivePointController.class)
+@TestPropertySource(properties = "point.service.mode=reactive")
+public class ReactivePointControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactivePointService reactivePointService;
+
+    @Test
+    @DisplayName("특정 유저의 포인트를 비동기로 조회한다")
+    void point() throws Exception {
+        // given - Mock 설정
+        given(reactivePointService.getUserPoint(1L)).willReturn(Mono.just(new UserPoint(1L, 1000L, 100L, 0L)));
+
+        // when - HTTP GET 요청 수행 (비동기)
+        MvcResult mvcResult = mockMvc.perform(get("/reactive/point/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.point").value(1000L));
+    }
+
+    @Test
+    @DisplayName("특정 유저의 포인트 내역을 비동기로 조회한다")
+    void history() throws Exception {
+        // given - Mock 설정: 내역 2건
+        given(reactivePointService.getPointHistory(1L)).willReturn(Flux.just(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, 1L, 500L, TransactionType.USE, 200L)
+        ));
+
+        // when - HTTP GET 요청 수행 (비동기)
+        MvcResult mvcResult = mockMvc.perform(get("/reactive/point/{id}/histories", 1L).accept(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].type").value("USE"));
+    }
+
+    @Test
+    @DisplayName("정책 위반 충전은 400 으로 응답한다")
+    void charge_policyViolation() throws Exception {
+        // given - Mock 설정: 정책1 위반
+        given(reactivePointService.charge(1L, 1000000L)).willReturn(Mono.error(new InsufficientPointException(
+                InsufficientPointException.Reason.CHARGE_LIMIT_EXCEEDED, "포인트를 100만원 이상 충전할 수 없습니다.")));
+
+        // when - HTTP PATCH 요청 수행 (비동기)
+        MvcResult mvcResult = mockMvc.perform(patch("/reactive/point/{id}/charge", 1L)
+                        .contentType(APPLICATION_JSON)
+                        .content("1000000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+    }
+}
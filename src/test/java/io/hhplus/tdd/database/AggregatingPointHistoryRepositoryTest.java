@@ -0,0 +1,52 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregatingPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("내역을 저장할 때마다 사용자별 충전/사용 합계, 건수, 첫/마지막 처리 시각이 갱신된다")
+    void insert_updatesSummary() {
+        // given
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable());
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 100L);
+        repository.insertAll(1L, List.of(200L, 300L), TransactionType.CHARGE, 200L);
+        repository.insert(1L, 400L, TransactionType.USE, 300L);
+        repository.insert(2L, 50L, TransactionType.CHARGE, 150L);
+
+        // then
+        PointSummary summary = repository.summarize(1L);
+        assertThat(summary).isEqualTo(new PointSummary(1L, 1500L, 400L, 4L, 100L, 300L));
+        assertThat(summary.balance()).isEqualTo(1100L);
+        assertThat(repository.summarize(2L).count()).isEqualTo(1L);
+        assertThat(repository.summarize(3L)).isEqualTo(PointSummary.empty(3L));
+        // 내역을 모두 읽어 계산한 집계(기본 구현)와 같다
+        assertThat(repository.summarize(1L)).isEqualTo(delegate.summarize(1L));
+    }
+
+    @Test
+    @DisplayName("생성 시 delegate 에 이미 있는 내역으로 집계를 다시 만든다 (디스크 저장소 복구)")
+    void constructor_rebuildsFromExistingHistories() {
+        // given: 집계 없이 저장된 내역
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable());
+        delegate.insert(1L, 1000L, TransactionType.CHARGE, 100L);
+        delegate.insert(1L, 300L, TransactionType.USE, 200L);
+
+        // when
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate);
+        repository.insert(1L, 100L, TransactionType.CHARGE, 300L);
+
+        // then
+        assertThat(repository.summarize(1L)).isEqualTo(new PointSummary(1L, 1100L, 300L, 3L, 100L, 300L));
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentPointHistoryTableTest {
+
+    @Test
+    @DisplayName("사용자별 내역을 id 순서대로 조회하고, segment 경계를 넘어도 유지된다")
+    void insert_thenSelectByUser() {
+        // given
+        ConcurrentPointHistoryTable table = new ConcurrentPointHistoryTable();
+
+        // when: 두 사용자가 번갈아 5000건씩 (segment 4096 칸을 넘김)
+        for (int i = 0; i < 5000; i++) {
+            table.insert(1L, i, TransactionType.CHARGE, i);
+            table.insert(2L, i, TransactionType.USE, i);
+        }
+
+        // then
+        List<PointHistory> histories = table.selectAllByUserId(1L);
+        assertThat(histories).hasSize(5000);
+        for (int i = 0; i < histories.size(); i++) {
+            assertThat(histories.get(i).id()).isEqualTo(2L * i + 1);
+            assertThat(histories.get(i).amount()).isEqualTo(i);
+        }
+        assertThat(table.selectAllByUserId(2L)).hasSize(5000);
+        assertThat(table.selectAllByUserId(2L).stream().allMatch(pointHistory -> pointHistory.type() == TransactionType.USE)).isTrue();
+        assertThat(table.selectAllByUserId(3L)).isEmpty();
+        assertThat(table.size()).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 여러 사용자가 동시에 저장해도 id 가 중복되지 않고 내역이 사라지지 않는다")
+    void concurrentInsert_keepsAllHistories() throws Exception {
+        // given: 8 스레드가 각자 다른 사용자로 2만 건씩 저장하면서 조회
+        ConcurrentPointHistoryTable table = new ConcurrentPointHistoryTable();
+        int threadCount = 8;
+        int insertsPerThread = 20_000;
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                long userId = t;
+                results.add(executorService.submit(() -> {
+                    for (int i = 0; i < insertsPerThread; i++) {
+                        table.insert(userId, i, TransactionType.CHARGE, i);
+                        if (i % 5000 == 0) {
+                            // 저장이 끝난 자기 내역은 락 없는 조회에서도 모두 보인다.
+                            assertThat(table.selectAllByUserId(userId)).hasSize(i + 1);
+                        }
+                    }
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 0; userId < threadCount; userId++) {
+            List<PointHistory> histories = table.selectAllByUserId(userId);
+            assertThat(histories).hasSize(insertsPerThread);
+            histories.forEach(pointHistory -> ids.add(pointHistory.id()));
+        }
+        assertThat(ids).hasSize(threadCount * insertsPerThread);
+        assertThat(table.size()).isEqualTo((long) threadCount * insertsPerThread);
+    }
+}
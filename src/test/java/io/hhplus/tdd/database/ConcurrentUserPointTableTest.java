@@ -0,0 +1,61 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentUserPointTableTest {
+
+    @Test
+    @DisplayName("저장하지 않은 사용자는 0 포인트, 저장한 사용자는 마지막 값을 조회한다")
+    void insertOrUpdate_thenSelect() {
+        // given
+        ConcurrentUserPointTable table = new ConcurrentUserPointTable();
+
+        // when
+        table.insertOrUpdate(1L, 1000L, 0);
+        UserPoint saved = table.insertOrUpdate(1L, 700L, 20000L);
+
+        // then
+        assertThat(table.selectById(1L)).isEqualTo(saved);
+        assertThat(table.selectById(2L).point()).isEqualTo(0L);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 여러 스레드가 서로 다른 사용자를 저장하면서 조회해도 값이 섞이지 않는다")
+    void concurrentWritesAndReads() throws Exception {
+        // given: 8 스레드, 스레드마다 사용자 10000명
+        ConcurrentUserPointTable table = new ConcurrentUserPointTable();
+        int threadCount = 8;
+        int usersPerThread = 10_000;
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                long base = (long) t * usersPerThread;
+                results.add(executorService.submit(() -> {
+                    for (long userId = base; userId < base + usersPerThread; userId++) {
+                        table.insertOrUpdate(userId, userId, userId);
+                        assertThat(table.selectById(userId).point()).isEqualTo(userId);
+                    }
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(threadCount * usersPerThread);
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurablePointHistoryRepositoryTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-storage");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private DurablePointHistoryRepository open() throws IOException {
+        return new DurablePointHistoryRepository(new PointStorageProperties(true, directory, Duration.ZERO, Duration.ZERO, PointHistoryStorageFormat.WAL, 0));
+    }
+
+    @Test
+    @DisplayName("다시 열면 log 를 replay 해 사용자별 내역을 저장 순서대로 복구한다")
+    void reopen_recoversHistory() throws IOException {
+        // given: 유저 1L 충전 2건 + 사용 1건, 유저 2L 충전 1건
+        try (DurablePointHistoryRepository repository = open()) {
+            repository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+            repository.insert(2L, 500L, TransactionType.CHARGE, 11L);
+            repository.insertAll(1L, List.of(200L, 300L), TransactionType.CHARGE, 12L);
+            repository.insert(1L, 100L, TransactionType.USE, 13L);
+        }
+
+        // when: 다시 열기
+        try (DurablePointHistoryRepository repository = open()) {
+            // then: 내역과 id 가 그대로 복구
+            List<PointHistory> histories = repository.selectAllByUserId(1L);
+            assertThat(histories).containsExactly(
+                    new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L),
+                    new PointHistory(3L, 1L, 200L, TransactionType.CHARGE, 12L),
+                    new PointHistory(4L, 1L, 300L, TransactionType.CHARGE, 12L),
+                    new PointHistory(5L, 1L, 100L, TransactionType.USE, 13L)
+            );
+            assertThat(repository.selectAllByUserId(2L)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 연 뒤 저장하는 내역의 id 는 복구된 마지막 id 다음부터 이어진다")
+    void reopen_continuesSequence() throws IOException {
+        // given: 3건 저장
+        try (DurablePointHistoryRepository repository = open()) {
+            repository.insertAll(1L, List.of(1L, 2L, 3L), TransactionType.CHARGE, 1L);
+        }
+
+        // when: 다시 열어서 1건 저장
+        try (DurablePointHistoryRepository repository = open()) {
+            repository.insert(1L, 4L, TransactionType.CHARGE, 2L);
+
+            // then: id 4
+            List<PointHistory> page = repository.selectByUserId(1L, 3L, Long.MIN_VALUE, Long.MAX_VALUE, 10);
+            assertThat(page).containsExactly(new PointHistory(4L, 1L, 4L, TransactionType.CHARGE, 2L));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurableUserPointTableTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-storage");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private DurableUserPointTable open(Duration fsyncInterval) throws IOException {
+        return new DurableUserPointTable(new PointStorageProperties(true, directory, fsyncInterval, Duration.ZERO, PointHistoryStorageFormat.WAL, 0));
+    }
+
+    private PointStorageProperties properties() {
+        return new PointStorageProperties(true, directory, Duration.ZERO, Duration.ZERO, PointHistoryStorageFormat.WAL, 0);
+    }
+
+    @Test
+    @DisplayName("다시 열면 write-ahead log 를 replay 해 마지막 잔액을 복구한다")
+    void reopen_replaysWal() throws IOException {
+        // given: 유저 1L 은 두 번, 유저 2L 은 한 번 저장
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            table.insertOrUpdate(1L, 1000L, 0);
+            table.insertOrUpdate(2L, 500L, 0);
+            table.insertOrUpdate(1L, 300L, 20000L);
+        }
+
+        // when: 다시 열기
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            // then: 사용자별 마지막 잔액
+            assertThat(table.selectById(1L).point()).isEqualTo(300L);
+            assertThat(table.selectById(1L).cost()).isEqualTo(20000L);
+            assertThat(table.selectById(2L).point()).isEqualTo(500L);
+            assertThat(table.selectById(3L).point()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    @DisplayName("snapshot 이후에는 snapshot + 새 세대 log 로 복구하고 이전 세대 파일은 지운다")
+    void snapshot_thenReplayTail() throws IOException {
+        // given: 100명 저장 -> snapshot -> 유저 1L 만 다시 저장
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            for (long userId = 1; userId <= 100; userId++) {
+                table.insertOrUpdate(userId, userId * 10, 0);
+            }
+            assertThat(table.snapshot()).isEqualTo(100L);
+            table.insertOrUpdate(1L, 7L, 0);
+        }
+
+        // when: 다시 열기
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            // then: snapshot 의 잔액 + tail 의 변경
+            assertThat(table.selectById(1L).point()).isEqualTo(7L);
+            assertThat(table.selectById(100L).point()).isEqualTo(1000L);
+        }
+
+        // then: 1세대 snapshot 과 log 만 남는다
+        assertThat(fileNames()).containsExactly("balance-0000000000000001.snapshot", "balance-0000000000000001.wal");
+    }
+
+    @Test
+    @DisplayName("쓰다가 잘린 마지막 레코드는 버리고 그 앞까지 복구한 뒤 이어서 저장한다")
+    void tornTail_truncated() throws IOException {
+        // given: 두 건 저장 후 마지막 레코드 일부만 쓰인 상태를 흉내 (쓰레기 바이트 추가)
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            table.insertOrUpdate(1L, 1000L, 0);
+            table.insertOrUpdate(2L, 2000L, 0);
+        }
+        Path wal = DurableUserPointTable.walFile(directory, 0);
+        Files.write(wal, new byte[]{1, 2, 3, 4, 5, 6, 7}, StandardOpenOption.APPEND);
+
+        // when: 다시 열어서 한 건 더 저장
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            table.insertOrUpdate(3L, 3000L, 0);
+        }
+
+        // then: 잘린 레코드 없이 세 건 모두 복구
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            assertThat(table.selectById(1L).point()).isEqualTo(1000L);
+            assertThat(table.selectById(2L).point()).isEqualTo(2000L);
+            assertThat(table.selectById(3L).point()).isEqualTo(3000L);
+        }
+    }
+
+    @Test
+    @DisplayName("주기적 fsync 모드에서도 저장이 반환되면 디스크에 남아 있고, snapshot 과 동시에 저장해도 유실되지 않는다")
+    void batchedFsync_concurrentWritesWithSnapshot() throws Exception {
+        // given: 5ms 주기 fsync
+        int threadCount = 8;
+        int usersPerThread = 200;
+
+        // when: 8 스레드가 서로 다른 사용자 200명씩 저장하는 도중 snapshot
+        try (DurableUserPointTable table = open(Duration.ofMillis(5))) {
+            try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+                for (int t = 0; t < threadCount; t++) {
+                    long base = (long) t * usersPerThread;
+                    executorService.submit(() -> {
+                        for (long userId = base + 1; userId <= base + usersPerThread; userId++) {
+                            table.insertOrUpdate(userId, userId, 0);
+                        }
+                    });
+                }
+                executorService.submit(table::snapshot);
+            }
+        }
+
+        // then: 모든 사용자 복구
+        try (DurableUserPointTable table = open(Duration.ZERO)) {
+            for (long userId = 1; userId <= (long) threadCount * usersPerThread; userId++) {
+                assertThat(table.selectById(userId).point()).isEqualTo(userId);
+            }
+        }
+    }
+
+
+    @Test
+    @DisplayName("잔액 저장 후 내역 저장 전에 종료되면 재시작 시 잔액을 내역 합계로 되돌린다")
+    void crashBetweenBalanceAndHistory_reconciled() throws IOException {
+        // given: 충전 1000 은 잔액/내역 모두 저장, 충전 500 은 잔액만 저장된 채 종료
+        try (DurableUserPointTable table = open(Duration.ZERO);
+             DurablePointHistoryRepository history = new DurablePointHistoryRepository(properties())) {
+            table.insertOrUpdate(1L, 1000L, 0);
+            history.insert(1L, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+            table.insertOrUpdate(1L, 1500L, 0);
+        }
+
+        // when: 다시 열어 내역과 맞춤
+        try (DurableUserPointTable table = open(Duration.ZERO);
+             DurablePointHistoryRepository history = new DurablePointHistoryRepository(properties())) {
+            assertThat(table.selectById(1L).point()).isEqualTo(1500L);
+            int repaired = table.reconcile(history);
+
+            // then: 내역 기준 잔액으로 복구
+            assertThat(repaired).isEqualTo(1);
+            assertThat(table.selectById(1L).point()).isEqualTo(1000L);
+        }
+
+        // then: 고친 잔액도 log 에 남아 다음 재시작에는 고칠 것이 없음
+        try (DurableUserPointTable table = open(Duration.ZERO);
+             DurablePointHistoryRepository history = new DurablePointHistoryRepository(properties())) {
+            assertThat(table.selectById(1L).point()).isEqualTo(1000L);
+            assertThat(table.reconcile(history)).isEqualTo(0);
+        }
+    }
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
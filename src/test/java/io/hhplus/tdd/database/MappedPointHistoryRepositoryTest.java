@@ -0,0 +1,113 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedPointHistoryRepositoryTest {
+
+    // segment 하나에 4건 (여러 segment 에 걸친 조회를 확인하기 위해 작게 설정)
+    private static final int SEGMENT_ROWS = 4;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-history-mapped");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private MappedPointHistoryRepository open() throws IOException {
+        return new MappedPointHistoryRepository(new PointStorageProperties(true, directory, Duration.ZERO, Duration.ZERO, PointHistoryStorageFormat.MAPPED, SEGMENT_ROWS));
+    }
+
+    @Test
+    @DisplayName("여러 segment 에 흩어진 사용자 내역을 저장 순서대로 조회한다")
+    void selectAll_acrossSegments() throws IOException {
+        // given: 유저 1L, 2L 의 내역 10건을 번갈아 저장 (segment 3개)
+        try (MappedPointHistoryRepository repository = open()) {
+            for (int i = 0; i < 10; i++) {
+                repository.insert(1L + i % 2, i, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 100L + i);
+            }
+
+            // when: 유저 1L 조회
+            List<PointHistory> histories = repository.selectAllByUserId(1L);
+
+            // then: 짝수 번째 저장 5건, id = 저장 순번
+            assertThat(histories).hasSize(5);
+            assertThat(histories.get(0)).isEqualTo(new PointHistory(1L, 1L, 0L, TransactionType.USE, 100L));
+            assertThat(histories.get(4)).isEqualTo(new PointHistory(9L, 1L, 8L, TransactionType.CHARGE, 108L));
+            assertThat(repository.selectAllByUserId(3L)).isEmpty();
+            assertThat(repository.size()).isEqualTo(10L);
+        }
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회는 afterId 다음 내역부터 limit 건, 시간 범위 안의 내역만 반환한다")
+    void selectByUserId_keysetAndTimeRange() throws IOException {
+        // given: 유저 1L 내역 4건 (id 1~4), 유저 2L 내역 1건 (id 5)
+        try (MappedPointHistoryRepository repository = open()) {
+            repository.insertAll(1L, List.of(1L, 2L, 3L, 4L), TransactionType.CHARGE, 0L);
+            repository.insert(2L, 1L, TransactionType.CHARGE, 0L);
+            List<PointHistory> all = repository.selectAllByUserId(1L);
+
+            // when: 첫 페이지, 다음 페이지, 다른 사용자의 id 를 afterId 로 넘긴 경우
+            List<PointHistory> first = repository.selectByUserId(1L, 0L, Long.MIN_VALUE, Long.MAX_VALUE, 3);
+            List<PointHistory> next = repository.selectByUserId(1L, first.get(2).id(), Long.MIN_VALUE, Long.MAX_VALUE, 3);
+            List<PointHistory> afterOther = repository.selectByUserId(1L, 5L, Long.MIN_VALUE, Long.MAX_VALUE, 3);
+            List<PointHistory> ranged = repository.selectByUserId(1L, 0L, 0L, 1L, 10);
+
+            // then
+            assertThat(first).containsExactly(all.get(0), all.get(1), all.get(2));
+            assertThat(next).containsExactly(all.get(3));
+            assertThat(afterOther).isEmpty();
+            assertThat(ranged).hasSize(4);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 segment 파일에서 사용자별 내역을 복구하고 id 를 이어서 발급한다")
+    void reopen_recovers() throws IOException {
+        // given: 7건 저장 후 닫기
+        try (MappedPointHistoryRepository repository = open()) {
+            for (int i = 1; i <= 7; i++) {
+                repository.insert(i % 3, i, TransactionType.CHARGE, i);
+            }
+        }
+
+        // when: 다시 열어서 1건 더 저장
+        try (MappedPointHistoryRepository repository = open()) {
+            repository.insert(1L, 8L, TransactionType.CHARGE, 8L);
+
+            // then: 유저 1L 의 내역 (id 1, 4, 7, 8)
+            assertThat(repository.selectAllByUserId(1L).stream().map(PointHistory::id).toList()).containsExactly(1L, 4L, 7L, 8L);
+
+            // then: 전체 내역은 사용자별로 묶여서 8건
+            List<PointHistory> all = new ArrayList<>();
+            repository.iterateAll().forEachRemaining(all::add);
+            assertThat(all).hasSize(8);
+        }
+    }
+}
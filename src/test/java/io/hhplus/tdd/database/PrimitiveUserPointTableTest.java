@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveUserPointTableTest {
+
+    @Test
+    @DisplayName("저장하지 않은 사용자는 0 포인트, 저장한 사용자는 마지막 값을 조회한다")
+    void insertOrUpdate_thenSelect() {
+        // given
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+
+        // when: 유저 1L 두 번 저장
+        table.insertOrUpdate(1L, 1000L, 0);
+        UserPoint saved = table.insertOrUpdate(1L, 700L, 20000L);
+
+        // then
+        assertThat(table.selectById(1L)).isEqualTo(saved);
+        assertThat(table.selectById(1L).point()).isEqualTo(700L);
+        assertThat(table.selectById(1L).cost()).isEqualTo(20000L);
+        assertThat(table.selectById(2L).point()).isEqualTo(0L);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배열이 여러 번 늘어나도 모든 사용자의 잔액이 유지된다 (음수, 0, Long.MIN_VALUE ID 포함)")
+    void resize_keepsAllUsers() {
+        // given: 초기 크기보다 훨씬 많은 사용자
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable(16);
+        int users = 100_000;
+
+        // when
+        for (long userId = -10; userId < users; userId++) {
+            table.insertOrUpdate(userId, userId * 2, 0);
+        }
+        table.insertOrUpdate(Long.MIN_VALUE, 42L, 0);
+        table.insertOrUpdate(Long.MAX_VALUE, 43L, 0);
+
+        // then
+        for (long userId = -10; userId < users; userId++) {
+            assertThat(table.selectById(userId).point()).isEqualTo(userId * 2);
+        }
+        assertThat(table.selectById(Long.MIN_VALUE).point()).isEqualTo(42L);
+        assertThat(table.selectById(Long.MAX_VALUE).point()).isEqualTo(43L);
+        assertThat(table.size()).isEqualTo(users + 10 + 1);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 여러 스레드가 서로 다른 사용자를 저장하면서 조회해도 값이 섞이지 않는다")
+    void concurrentWritesAndReads() throws Exception {
+        // given: 8 스레드, 스레드마다 사용자 10000명
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+        int threadCount = 8;
+        int usersPerThread = 10_000;
+
+        // when: 저장 직후 바로 조회 (다른 스레드의 저장으로 배열이 늘어나는 중에도)
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                long base = (long) t * usersPerThread;
+                executorService.submit(() -> {
+                    for (long userId = base; userId < base + usersPerThread; userId++) {
+                        table.insertOrUpdate(userId, userId, userId);
+                        UserPoint read = table.selectById(userId);
+                        if (read.point() != userId || read.cost() != userId) {
+                            throw new AssertionError("mismatch for " + userId + ": " + read);
+                        }
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(threadCount * usersPerThread);
+        for (long userId = 0; userId < (long) threadCount * usersPerThread; userId++) {
+            assertThat(table.selectById(userId).point()).isEqualTo(userId);
+        }
+    }
+}
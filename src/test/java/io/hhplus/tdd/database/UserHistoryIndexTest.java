@@ -0,0 +1,129 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserHistoryIndexTest {
+
+    @Test
+    @DisplayName("내역이 없는 인덱스는 빈 목록을 반환한다")
+    void toList_empty() {
+        // given: 아무 내역도 추가하지 않은 인덱스
+        UserHistoryIndex index = new UserHistoryIndex(1L);
+
+        // when & then: 빈 목록 반환
+        assertThat(index.size()).isEqualTo(0);
+        assertThat(index.toList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 청크에 걸쳐 저장된 내역을 저장 순서대로 조회한다")
+    void toList_acrossChunks() {
+        // given: 첫 청크(8건)를 훨씬 넘는 3000건의 내역
+        long userId = 1L;
+        int count = 3000;
+        UserHistoryIndex index = new UserHistoryIndex(userId);
+        for (int i = 1; i <= count; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            index.append(new PointHistory(i, userId, i * 10L, type, 1000L + i));
+        }
+
+        // when: 전체 내역 조회
+        List<PointHistory> result = index.toList();
+
+        // then: 모든 필드가 저장 순서대로 복원됨
+        assertThat(result).hasSize(count);
+        for (int i = 1; i <= count; i++) {
+            PointHistory history = result.get(i - 1);
+            assertThat(history.id()).isEqualTo((long) i);
+            assertThat(history.userId()).isEqualTo(userId);
+            assertThat(history.amount()).isEqualTo(i * 10L);
+            assertThat(history.type()).isEqualTo(i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE);
+            assertThat(history.updateMillis()).isEqualTo(1000L + i);
+        }
+    }
+
+    @Test
+    @DisplayName("청크 크기는 8건부터 두 배씩 늘어나 1024건에서 멈춘다")
+    void capacity_growsUntilMax() {
+        assertThat(UserHistoryIndex.capacity(0)).isEqualTo(8);
+        assertThat(UserHistoryIndex.capacity(1)).isEqualTo(16);
+        assertThat(UserHistoryIndex.capacity(7)).isEqualTo(1024);
+        assertThat(UserHistoryIndex.capacity(100)).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("afterId 이후의 내역을 limit 건씩 이어서 조회한다")
+    void page_keyset() {
+        // given: id 가 2씩 증가하는 내역 2000건
+        UserHistoryIndex index = new UserHistoryIndex(1L);
+        for (int i = 1; i <= 2000; i++) {
+            index.append(new PointHistory(i * 2L, 1L, 100L, TransactionType.CHARGE, i));
+        }
+
+        // when: 마지막으로 받은 id(1001)를 커서로 100건 조회
+        List<PointHistory> page = index.page(1001L, Long.MIN_VALUE, Long.MAX_VALUE, 100);
+
+        // then: id 1002 부터 100건
+        assertThat(page).hasSize(100);
+        assertThat(page.get(0).id()).isEqualTo(1002L);
+        assertThat(page.get(99).id()).isEqualTo(1200L);
+
+        // when: 마지막 페이지 이후 조회
+        List<PointHistory> last = index.page(4000L, Long.MIN_VALUE, Long.MAX_VALUE, 100);
+
+        // then: 빈 페이지
+        assertThat(last).isEmpty();
+    }
+
+    @Test
+    @DisplayName("updateMillis 가 [from, to) 구간인 내역만 조회한다")
+    void page_timeRange() {
+        // given: updateMillis 가 1 ~ 2000 인 내역
+        UserHistoryIndex index = new UserHistoryIndex(1L);
+        for (int i = 1; i <= 2000; i++) {
+            index.append(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, i));
+        }
+
+        // when: [500, 510) 구간 조회
+        List<PointHistory> page = index.page(0L, 500L, 510L, 100);
+
+        // then: 10건만 조회됨
+        assertThat(page).hasSize(10);
+        assertThat(page.get(0).updateMillis()).isEqualTo(500L);
+        assertThat(page.get(9).updateMillis()).isEqualTo(509L);
+    }
+
+    @Test
+    @DisplayName("updateMillis 가 역순으로 저장되어도 시간 범위 조회가 정확하다")
+    void page_timeRange_unordered() {
+        // given: updateMillis 가 감소하는 내역
+        UserHistoryIndex index = new UserHistoryIndex(1L);
+        for (int i = 1; i <= 100; i++) {
+            index.append(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, 1000L - i));
+        }
+
+        // when: [950, 960) 구간 조회
+        List<PointHistory> page = index.page(0L, 950L, 960L, 100);
+
+        // then: updateMillis 959 ~ 950 인 10건
+        assertThat(page).hasSize(10);
+        assertThat(page.get(0).updateMillis()).isEqualTo(959L);
+    }
+
+    @Test
+    @DisplayName("위치에 해당하는 청크와 청크 시작 위치를 계산한다")
+    void chunkOf_chunkStart() {
+        for (int position = 0; position < 10_000; position++) {
+            int chunk = UserHistoryIndex.chunkOf(position);
+            assertThat(position).isGreaterThanOrEqualTo(UserHistoryIndex.chunkStart(chunk));
+            assertThat(position).isLessThan(UserHistoryIndex.chunkStart(chunk) + UserHistoryIndex.capacity(chunk));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteAheadLogTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("point-wal", ".log");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private WriteAheadLog open(FailingFileChannel channel, Duration fsyncInterval) throws IOException {
+        return WriteAheadLog.open(file, channel, Long.BYTES, fsyncInterval, record -> {
+        });
+    }
+
+    @Test
+    @DisplayName("파일 쓰기가 실패하면 이후 sync/append 는 모두 실패하고 유실된 레코드를 저장된 것으로 완료하지 않는다")
+    void writeFailure_failsLog() throws IOException {
+        // given: 레코드 1건은 정상 저장
+        FailingFileChannel channel = FailingFileChannel.open(file);
+        WriteAheadLog wal = open(channel, Duration.ZERO);
+        wal.sync(wal.append(buffer -> buffer.putLong(1L)));
+
+        // when: 쓰기 실패 중에 2번째 레코드를 sync
+        channel.failWrites = true;
+        long second = wal.append(buffer -> buffer.putLong(2L));
+        assertThrows(UncheckedIOException.class, () -> wal.sync(second));
+
+        // then: 쓰기가 다시 되더라도 log 는 실패 상태 (2번째 레코드를 fsync 된 것으로 완료하지 않음)
+        channel.failWrites = false;
+        assertThrows(UncheckedIOException.class, () -> wal.sync(second));
+        assertThrows(UncheckedIOException.class, () -> wal.append(buffer -> buffer.putLong(3L)));
+        wal.close();
+
+        // 파일에는 1번째 레코드만 남음
+        List<Long> records = new ArrayList<>();
+        WriteAheadLog.read(file, Long.BYTES, record -> records.add(record.getLong()));
+        assertThat(records).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("백그라운드 fsync 가 실패하면 fsync 를 기다리던 호출자가 실패로 깨어난다")
+    void forceFailure_wakesWaiters() throws IOException {
+        // given: 주기 fsync 모드, fsync 실패
+        FailingFileChannel channel = FailingFileChannel.open(file);
+        WriteAheadLog wal = open(channel, Duration.ofMillis(10));
+        channel.failForce = true;
+
+        // when: 레코드를 append 하고 fsync 대기
+        long position = wal.append(buffer -> buffer.putLong(1L));
+
+        // then: 영원히 기다리지 않고 실패
+        assertThrows(UncheckedIOException.class, () -> wal.sync(position));
+        wal.close();
+    }
+
+    /**
+     * 쓰기/fsync 를 실패시킬 수 있는 FileChannel
+     */
+    static final class FailingFileChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        volatile boolean failWrites;
+        volatile boolean failForce;
+
+        private FailingFileChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        static FailingFileChannel open(Path file) throws IOException {
+            return new FailingFileChannel(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failWrites) {
+                throw new IOException("injected write failure");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failWrites) {
+                throw new IOException("injected write failure");
+            }
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failForce) {
+                throw new IOException("injected fsync failure");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            if (failWrites) {
+                throw new IOException("injected write failure");
+            }
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
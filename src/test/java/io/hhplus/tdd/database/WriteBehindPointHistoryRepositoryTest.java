@@ -0,0 +1,113 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteBehindPointHistoryRepositoryTest {
+
+    private final PointHistoryRepository delegate = new IndexedPointHistoryRepository(new PointHistoryTable());
+
+    private WriteBehindPointHistoryRepository create(PointHistoryWriteMode mode) {
+        return new WriteBehindPointHistoryRepository(
+                delegate,
+                new PointHistoryWriteProperties(mode, 100, 10, Duration.ofMillis(10))
+        );
+    }
+
+    @Test
+    @DisplayName("GROUP_COMMIT 모드는 저장이 끝난 뒤 반환하므로 바로 조회된다")
+    void groupCommit_visibleAfterInsert() {
+        // given: GROUP_COMMIT 모드 저장소
+        long userId = 1L;
+        WriteBehindPointHistoryRepository repository = create(PointHistoryWriteMode.GROUP_COMMIT);
+
+        // when: 내역 저장
+        repository.insert(userId, 1000L, TransactionType.CHARGE, 1L);
+
+        // then: 반환 직후 조회 가능
+        List<PointHistory> histories = repository.selectAllByUserId(userId);
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).amount()).isEqualTo(1000L);
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드는 종료 시 큐에 남은 내역을 모두 순서대로 저장한다")
+    void async_drainOnClose() {
+        // given: ASYNC 모드 저장소
+        long userId = 2L;
+        int count = 5;
+        WriteBehindPointHistoryRepository repository = create(PointHistoryWriteMode.ASYNC);
+
+        // when: 내역 5건을 저장하고 바로 종료
+        for (int i = 1; i <= count; i++) {
+            repository.insert(userId, i * 100L, TransactionType.CHARGE, i);
+        }
+        repository.close();
+
+        // then: 유실 없이 저장 순서대로 모두 저장됨
+        List<PointHistory> histories = delegate.selectAllByUserId(userId);
+        assertThat(histories).hasSize(count);
+        for (int i = 1; i <= count; i++) {
+            assertThat(histories.get(i - 1).amount()).isEqualTo(i * 100L);
+        }
+
+        WriteBehindPointHistoryRepository.Stats stats = repository.stats();
+        assertThat(stats.enqueued()).isEqualTo((long) count);
+        assertThat(stats.flushed()).isEqualTo((long) count);
+        assertThat(stats.queueSize()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("저장 중에 종료해도 GROUP_COMMIT 내역이 유실되지 않고 호출자가 모두 반환된다")
+    void groupCommit_closeWhileInserting_noLoss() throws Exception {
+        // given: GROUP_COMMIT 모드 저장소와 동시에 저장하는 스레드 4개
+        long userId = 3L;
+        int threadCount = 4;
+        int insertsPerThread = 3;
+        WriteBehindPointHistoryRepository repository = create(PointHistoryWriteMode.GROUP_COMMIT);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch started = new CountDownLatch(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 저장이 진행되는 중에 종료
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                for (int j = 0; j < insertsPerThread; j++) {
+                    repository.insert(userId, 100L, TransactionType.CHARGE, j);
+                }
+            }));
+        }
+        started.await();
+        repository.close();
+
+        // then: 모든 호출이 반환되고 내역이 전부 저장됨 (종료 뒤에 들어온 내역은 바로 저장)
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertThat(delegate.selectAllByUserId(userId)).hasSize(threadCount * insertsPerThread);
+        assertThat(repository.stats().queueSize()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("SYNC 모드로는 write-behind 저장소를 만들 수 없다")
+    void sync_notAllowed() {
+        assertThrows(IllegalArgumentException.class, () -> create(PointHistoryWriteMode.SYNC));
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 부하 테스트
+ * - Tomcat 플랫폼 스레드를 10개로 제한해도 가상 스레드 모드에서는 동시 요청 수가 스레드 수에 묶이지 않는다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=10"
+        }
+)
+public class VirtualThreadIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("부하 테스트: 가상 스레드 모드는 플랫폼 스레드 수보다 훨씬 많은 동시 요청을 처리한다")
+    void concurrentRequests_scalePastPlatformThreads() throws Exception {
+        // given: 서로 다른 유저 500명에 대한 동시 조회 (요청마다 UserPointTable 조회로 최대 200ms 블록)
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        client.send(request(0), HttpResponse.BodyHandlers.discarding());
+
+        // when: 동시에 요청
+        long startNanos = System.nanoTime();
+        List<Future<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= CONCURRENT_REQUESTS; i++) {
+                long userId = i;
+                responses.add(executorService.submit(() -> client.send(request(userId), HttpResponse.BodyHandlers.discarding())));
+            }
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        // then: 모두 성공
+        for (Future<HttpResponse<Void>> response : responses) {
+            assertThat(response.get().statusCode()).isEqualTo(200);
+        }
+
+        // then: 플랫폼 스레드 10개로 처리했다면 평균 100ms * 500건 / 10 = 약 5초가 걸린다.
+        assertThat(elapsedMillis).isLessThan(2500);
+    }
+
+    private HttpRequest request(long userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+}
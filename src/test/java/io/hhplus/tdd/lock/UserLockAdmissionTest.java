@@ -0,0 +1,139 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserLockAdmissionTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Lock 이 비어 있으면 바로 잡는다")
+    void freeLock_acquired() {
+        // given
+        UserLockAdmission admission = new UserLockAdmission(properties(Duration.ofMillis(50), 1));
+        Lock lock = new ReentrantLock();
+
+        // when
+        admission.lock(1L, lock, "charge");
+
+        // then
+        assertThat(((ReentrantLock) lock).isHeldByCurrentThread()).isTrue();
+        assertThat(admission.waiting()).isEqualTo(0);
+        lock.unlock();
+    }
+
+    @Test
+    @DisplayName("작업별 대기 시간 안에 Lock 을 얻지 못하면 TIMEOUT 으로 거절된다")
+    void timeout_rejected() throws Exception {
+        // given: 다른 스레드가 Lock 을 잡고 있음
+        UserLockAdmission admission = new UserLockAdmission(properties(Duration.ofMillis(50), 10));
+        Lock lock = new ReentrantLock();
+        holdInOtherThread(lock);
+
+        // when
+        long startNanos = System.nanoTime();
+        UserLockUnavailableException exception = assertThrows(UserLockUnavailableException.class,
+                () -> admission.lock(1L, lock, "charge"));
+
+        // then: 대기 시간만큼 기다린 뒤 거절되고, 대기 요청 수는 다시 0
+        assertThat(exception.getReason()).isEqualTo(UserLockUnavailableException.Reason.TIMEOUT);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(50L);
+        assertThat(admission.waiting()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("사용자당 대기 요청 수를 넘으면 기다리지 않고 QUEUE_FULL 로 거절된다")
+    void queueFull_rejectedImmediately() throws Exception {
+        // given: Lock 을 잡은 스레드 1개, 기다리는 스레드 1개 (최대 대기 1)
+        UserLockAdmission admission = new UserLockAdmission(properties(Duration.ofSeconds(5), 1));
+        ReentrantLock lock = new ReentrantLock();
+        holdInOtherThread(lock);
+        Future<?> waiter = executorService.submit(() -> {
+            admission.lock(1L, lock, "charge");
+            lock.unlock();
+        });
+        while (admission.waiting() < 1) {
+            Thread.sleep(5);
+        }
+
+        // when
+        long startNanos = System.nanoTime();
+        UserLockUnavailableException exception = assertThrows(UserLockUnavailableException.class,
+                () -> admission.lock(1L, lock, "charge"));
+
+        // then: 바로 거절, 다른 사용자는 영향 없음
+        assertThat(exception.getReason()).isEqualTo(UserLockUnavailableException.Reason.QUEUE_FULL);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000L);
+        Lock otherLock = new ReentrantLock();
+        admission.lock(2L, otherLock, "charge");
+        otherLock.unlock();
+
+        // then: Lock 이 풀리면 기다리던 요청은 처리됨
+        release.countDown();
+        waiter.get(5, TimeUnit.SECONDS);
+        assertThat(admission.waiting()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 0 이면 Lock 이 풀릴 때까지 기다린다")
+    void zeroTimeout_waitsUntilReleased() throws Exception {
+        // given
+        UserLockAdmission admission = UserLockAdmission.unbounded();
+        ReentrantLock lock = new ReentrantLock();
+        holdInOtherThread(lock);
+        Future<?> waiter = executorService.submit(() -> {
+            admission.lock(1L, lock, "use");
+            lock.unlock();
+        });
+
+        // when: 100ms 뒤 Lock 해제
+        Thread.sleep(100);
+        assertThat(waiter.isDone()).isFalse();
+        release.countDown();
+
+        // then
+        waiter.get(5, TimeUnit.SECONDS);
+        assertThat(admission.waiting()).isEqualTo(0);
+    }
+
+    private void holdInOtherThread(Lock lock) throws InterruptedException {
+        CountDownLatch held = new CountDownLatch(1);
+        executorService.submit(() -> {
+            lock.lock();
+            try {
+                held.countDown();
+                release.await();
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        });
+        held.await();
+    }
+
+    private static UserLockAdmissionProperties properties(Duration timeout, int maxWaiters) {
+        return new UserLockAdmissionProperties(timeout, timeout, timeout, timeout, maxWaiters);
+    }
+}
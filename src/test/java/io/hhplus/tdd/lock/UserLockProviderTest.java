@@ -0,0 +1,141 @@
+package io.hhplus.tdd.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLockProviderTest {
+
+    @Test
+    @DisplayName("MAP 전략은 사용자마다 Lock 을 만들고 유지한다")
+    void map_keepsLockPerUser() {
+        // given
+        UserLockProvider provider = new MapUserLockProvider();
+
+        // when: 서로 다른 사용자 3명의 Lock 사용
+        for (long userId = 1; userId <= 3; userId++) {
+            Lock lock = provider.getLock(userId);
+            lock.lock();
+            lock.unlock();
+        }
+
+        // then: 같은 사용자는 같은 Lock, Lock 은 제거되지 않음
+        assertThat(provider.getLock(1L)).isSameAs(provider.getLock(1L));
+        assertThat(provider.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("STRIPED 전략은 사용자 수와 관계없이 Lock 수가 일정하다")
+    void striped_fixedSize() {
+        // given: 1000 개 요청 -> 2의 거듭제곱(1024)으로 올림
+        StripedUserLockProvider provider = new StripedUserLockProvider(1000, false);
+
+        // when: 10만 명의 Lock 조회
+        for (long userId = 1; userId <= 100_000; userId++) {
+            provider.getLock(userId);
+        }
+
+        // then
+        assertThat(provider.size()).isEqualTo(1024);
+        assertThat(provider.getLock(42L)).isSameAs(provider.getLock(42L));
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 전략은 보유/대기 중인 스레드가 없으면 Lock 을 제거한다")
+    void refCounted_evictsUnusedLock() {
+        // given
+        UserLockProvider provider = new RefCountedUserLockProvider();
+        Lock lock = provider.getLock(1L);
+
+        // when: Lock 보유 중
+        lock.lock();
+
+        // then: 유지됨
+        assertThat(provider.size()).isEqualTo(1);
+
+        // when: Lock 해제
+        lock.unlock();
+
+        // then: 제거됨
+        assertThat(provider.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 전략은 tryLock 실패 시에도 참조를 반납한다")
+    void refCounted_releasesOnTryLockFailure() throws InterruptedException {
+        // given: 다른 스레드가 Lock 보유 중
+        UserLockProvider provider = new RefCountedUserLockProvider();
+        Lock owner = provider.getLock(1L);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            owner.lock();
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+
+            } finally {
+                owner.unlock();
+            }
+        });
+        thread.start();
+        locked.await();
+
+        // when: tryLock 실패
+        boolean acquired = provider.getLock(1L).tryLock();
+
+        // then: 보유 스레드의 참조만 남음
+        assertThat(acquired).isFalse();
+        assertThat(provider.size()).isEqualTo(1);
+
+        release.countDown();
+        thread.join();
+        assertThat(provider.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("모든 전략은 같은 사용자에 대한 동시 접근을 직렬화한다")
+    void allStrategies_mutualExclusion() throws InterruptedException {
+        for (UserLockStrategy strategy : UserLockStrategy.values()) {
+            // given: 보호 없는 카운터
+            UserLockProvider provider = strategy.create(new UserLockProperties(strategy, 16, false));
+            long[] counter = new long[1];
+            int threadCount = 8;
+            int increments = 10_000;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            // when: 8개 스레드가 같은 사용자 Lock 으로 1만 번씩 증가
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < increments; j++) {
+                            Lock lock = provider.getLock(1L);
+                            lock.lock();
+                            try {
+                                counter[0]++;
+                            } finally {
+                                lock.unlock();
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then: 갱신 유실 없음
+            assertThat(counter[0]).isEqualTo((long) threadCount * increments);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserSerialQueueTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    private final UserSerialQueue queue = new UserSerialQueue(executorService);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 작업은 제출 순서대로 하나씩 실행된다")
+    void sameUser_runsInOrder() {
+        // given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when: 같은 사용자에게 100개 작업 제출 (앞 작업일수록 오래 걸림)
+        for (int i = 0; i < 100; i++) {
+            int order = i;
+            futures.add(queue.submit(1L, () -> {
+                sleep(order < 10 ? 5 : 0);
+                executed.add(order);
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then: 제출 순서대로 실행
+        for (int i = 0; i < 100; i++) {
+            assertThat(executed.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 서로 기다리지 않고 병렬로 실행된다")
+    void differentUsers_runInParallel() throws InterruptedException {
+        // given: 사용자 1의 작업이 막혀 있음
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = queue.submit(1L, () -> await(release));
+
+        // when: 사용자 2의 작업 제출
+        CompletableFuture<String> other = queue.submit(2L, () -> "done");
+
+        // then: 사용자 2는 바로 완료, 사용자 1은 대기 중
+        assertThat(other.join()).isEqualTo("done");
+        assertThat(blocked.isDone()).isFalse();
+        release.countDown();
+        assertThat(blocked.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("앞 작업이 실패해도 다음 작업은 실행되고 실패는 해당 작업에만 전달된다")
+    void failure_doesNotBreakQueue() {
+        // when
+        CompletableFuture<Integer> failed = queue.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Integer> next = queue.submit(1L, () -> 42);
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(next.join()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("사용자당 끝나지 않은 작업이 제한에 닿으면 새 작업은 큐에 넣지 않고 바로 실패한다")
+    void pendingLimit_failsFast() {
+        // given: 사용자당 2건 제한, 사용자 1의 첫 작업이 막혀 있음
+        UserSerialQueue boundedQueue = new UserSerialQueue(executorService, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = boundedQueue.submit(1L, () -> await(release));
+        CompletableFuture<Integer> second = boundedQueue.submit(1L, () -> 2);
+
+        // when: 세 번째 작업 제출
+        CompletableFuture<Integer> rejected = boundedQueue.submit(1L, () -> 3);
+
+        // then: QUEUE_FULL 로 바로 실패하고, 다른 사용자는 영향 없음
+        assertThat(rejected.isCompletedExceptionally()).isTrue();
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertThat(exception.getCause()).isInstanceOf(UserLockUnavailableException.class);
+        assertThat(((UserLockUnavailableException) exception.getCause()).getReason()).isEqualTo(UserLockUnavailableException.Reason.QUEUE_FULL);
+        assertThat(boundedQueue.submit(2L, () -> 4).join()).isEqualTo(4);
+
+        // 앞 작업이 끝나면 다시 받는다 (완료 후 대기 수는 whenComplete 에서 줄어든다)
+        release.countDown();
+        first.join();
+        second.join();
+        for (int i = 0; i < 100 && boundedQueue.pending(1L) > 0; i++) {
+            sleep(10);
+        }
+        assertThat(boundedQueue.pending(1L)).isEqualTo(0);
+        assertThat(boundedQueue.submit(1L, () -> 5).join()).isEqualTo(5);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
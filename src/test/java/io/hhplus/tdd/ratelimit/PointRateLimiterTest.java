@@ -0,0 +1,172 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.hhplus.tdd.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointRateLimiterTest {
+
+    // 테스트에서 직접 움직이는 시계 (nano 초)
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("사용자별 burst 를 넘는 요청은 Retry-After 와 함께 거절된다")
+    void userBurstExceeded_rejected() {
+        // given: 사용자당 초당 10건, burst 5
+        PointRateLimiter rateLimiter = rateLimiter(10, 5, 1000, 1000, 1024);
+
+        // when: 같은 시각에 5건은 허용
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(1L);
+        }
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+
+        // then: 6번째는 사용자 제한, 다음 token 까지 100ms
+        assertThat(exception.getScope()).isEqualTo(RateLimitExceededException.Scope.USER);
+        assertThat(exception.getRetryAfter().toMillis()).isEqualTo(100L);
+        assertThat(rateLimiter.stats().allowed()).isEqualTo(5L);
+        assertThat(rateLimiter.stats().userRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 rate 만큼 token 이 다시 채워진다")
+    void tokensRefilled() {
+        // given: burst 를 모두 사용
+        PointRateLimiter rateLimiter = rateLimiter(10, 5, 1000, 1000, 1024);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(1L);
+        }
+
+        // when: 200ms 후 (2개 채워짐)
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        rateLimiter.acquire(1L);
+        rateLimiter.acquire(1L);
+
+        // then: 3번째는 거절
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+    }
+
+    @Test
+    @DisplayName("한 사용자가 제한에 걸려도 다른 사용자는 영향이 없다")
+    void otherUser_notAffected() {
+        // given
+        PointRateLimiter rateLimiter = rateLimiter(10, 2, 1000, 1000, 1024);
+        rateLimiter.acquire(1L);
+        rateLimiter.acquire(1L);
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+
+        // when & then
+        rateLimiter.acquire(2L);
+        rateLimiter.acquire(2L);
+    }
+
+    @Test
+    @DisplayName("전체 burst 를 넘으면 사용자와 관계없이 거절된다")
+    void globalBurstExceeded_rejected() {
+        // given: 전체 burst 3
+        PointRateLimiter rateLimiter = rateLimiter(10, 5, 10, 3, 1024);
+
+        // when: 서로 다른 사용자 3명은 허용
+        rateLimiter.acquire(1L);
+        rateLimiter.acquire(2L);
+        rateLimiter.acquireGlobal();
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(3L));
+
+        // then
+        assertThat(exception.getScope()).isEqualTo(RateLimitExceededException.Scope.GLOBAL);
+        assertThat(exception.getRetryAfter().toMillis()).isEqualTo(100L);
+        assertThat(rateLimiter.stats().globalRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("사용자 bucket 칸이 모두 사용 중이면 제한하지 않고 통과시킨다")
+    void slotsExhausted_failOpen() {
+        // given: 칸 4개를 사용자 4명이 사용 중 (burst 1 을 모두 사용)
+        PointRateLimiter rateLimiter = rateLimiter(1, 1, 1000, 1000, 4);
+        for (long userId = 1; userId <= 4; userId++) {
+            rateLimiter.acquire(userId);
+        }
+
+        // when: 5번째 사용자는 칸이 없음
+        rateLimiter.acquire(5L);
+        rateLimiter.acquire(5L);
+
+        // then
+        assertThat(rateLimiter.stats().collisions()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("쉬고 있는 사용자의 bucket 칸은 다른 사용자가 재사용한다")
+    void idleSlot_reused() {
+        // given: 칸 4개를 사용자 4명이 사용
+        PointRateLimiter rateLimiter = rateLimiter(1, 1, 1000, 1000, 4);
+        for (long userId = 1; userId <= 4; userId++) {
+            rateLimiter.acquire(userId);
+        }
+
+        // when: 1초 후 (모든 bucket 이 다시 가득 참) 새 사용자 요청
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.acquire(5L);
+
+        // then: 칸을 재사용해 제한이 적용됨
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(5L));
+        assertThat(rateLimiter.stats().collisions()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청도 burst 만큼만 허용된다")
+    void concurrentRequests_limitedToBurst() throws Exception {
+        // given: 사용자 burst 20
+        PointRateLimiter rateLimiter = rateLimiter(1, 20, 1000, 1000, 1024);
+        int threadCount = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when: 10개 스레드가 각각 10번씩 요청
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int j = 0; j < 10; j++) {
+                    try {
+                        rateLimiter.acquire(1L);
+                        allowed++;
+                    } catch (RateLimitExceededException ignored) {
+
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+
+        // then
+        int allowed = 0;
+        for (Future<Integer> result : results) {
+            allowed += result.get(5, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        assertThat(allowed).isEqualTo(20);
+        assertThat(rateLimiter.stats().userRejected()).isEqualTo(80L);
+    }
+
+    private PointRateLimiter rateLimiter(double userRate, int userBurst, double globalRate, int globalBurst, int userSlots) {
+        return new PointRateLimiter(
+                new PointRateLimitProperties(true, userRate, userBurst, globalRate, globalBurst, userSlots),
+                clock::get
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * PointServiceConcurrencyTest 의 동시성 시나리오를 ActorPointServiceImpl 에 적용
+ */
+class ActorPointServiceConcurrencyTest extends PointServiceConcurrencyTest {
+
+    private final List<ActorPointServiceImpl> services = new ArrayList<>();
+
+    @Override
+    PointService createPointService(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository) {
+        return createActorPointService(userPointTable, pointHistoryRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(ActorPointServiceImpl::close);
+    }
+
+    @Test
+    @DisplayName("hot user 에 몰린 충전은 잔액 저장을 합치고, 명령별 결과와 내역은 정확히 남긴다")
+    void hotUserBurst_mergesWrites() throws Exception {
+        // given
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+        ActorPointServiceImpl actorPointService = createActorPointService(userPointTable, pointHistoryRepository);
+        long userId = 1L;
+        int threadCount = 30;
+
+        // when: 30 스레드가 동시에 100 포인트씩 충전
+        List<Future<UserPoint>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executorService.submit(() -> actorPointService.charge(userId, 100L)));
+            }
+        }
+
+        // then: 명령별 결과는 서로 다른 잔액 (100, 200, ..., 3000)
+        List<Long> points = new ArrayList<>();
+        for (Future<UserPoint> result : results) {
+            points.add(result.get().point());
+        }
+        assertThat(points.stream().distinct().count()).isEqualTo(threadCount);
+        assertThat(points.stream().mapToLong(Long::longValue).max().getAsLong()).isEqualTo(3000L);
+
+        // then: 최종 잔액과 내역은 정확하고, 잔액 저장은 명령 수보다 적다
+        assertThat(userPointTable.selectById(userId).point()).isEqualTo(3000L);
+        assertThat(pointHistoryRepository.selectAllByUserId(userId)).hasSize(threadCount);
+        assertThat(actorPointService.stats().commands()).isEqualTo(threadCount);
+        assertThat(actorPointService.stats().writes()).isLessThan(threadCount);
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 명령은 기다리지 않고 바로 실패한다")
+    void closed_rejectsNewCommands() {
+        // given: 종료된 actor 서비스
+        ActorPointServiceImpl actorPointService = createActorPointService(new ConcurrentUserPointTable(),
+                new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()));
+        actorPointService.charge(1L, 100L);
+        actorPointService.close();
+
+        // when & then: 충전 요청은 예외로 완료
+        assertThrows(IllegalStateException.class, () -> actorPointService.charge(1L, 100L));
+        assertThat(actorPointService.stats().activeMailboxes()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("내역 저장이 실패하면 잔액을 저장하지 않고 명령을 실패로 완료한다")
+    void historyFailure_balanceNotWritten() {
+        // given: insertAll 이 항상 실패하는 내역 저장소
+        ConcurrentUserPointTable userPointTable = new ConcurrentUserPointTable();
+        PointHistoryRepository failingRepository = new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()) {
+            @Override
+            public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+                throw new IllegalStateException("injected history failure");
+            }
+        };
+        ActorPointServiceImpl actorPointService = createActorPointService(userPointTable, failingRepository);
+
+        // when: 충전
+        assertThrows(IllegalStateException.class, () -> actorPointService.charge(2L, 1000L));
+
+        // then: 내역이 없으므로 잔액도 바뀌지 않음
+        assertThat(userPointTable.selectById(2L).point()).isEqualTo(0L);
+    }
+
+    private ActorPointServiceImpl createActorPointService(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository) {
+        ActorPointServiceImpl actorPointService = new ActorPointServiceImpl(
+                userPointTable,
+                pointHistoryRepository,
+                new BoundedCache<>(1000, Duration.ZERO),
+                new ActorPointProperties(8, 1000)
+        );
+        services.add(actorPointService);
+        return actorPointService;
+    }
+}
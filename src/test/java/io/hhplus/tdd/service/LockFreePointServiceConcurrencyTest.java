@@ -0,0 +1,24 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+
+/**
+ * PointServiceConcurrencyTest 의 동시성 시나리오를 LockFreePointServiceImpl 에 적용
+ */
+class LockFreePointServiceConcurrencyTest extends PointServiceConcurrencyTest {
+
+    private LockFreePointServiceImpl lockFreePointService;
+
+    @Override
+    PointService createPointService(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository) {
+        lockFreePointService = new LockFreePointServiceImpl(userPointTable, pointHistoryRepository);
+        return lockFreePointService;
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockFreePointService.close();
+    }
+}
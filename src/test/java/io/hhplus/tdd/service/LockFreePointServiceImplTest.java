@@ -0,0 +1,100 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockFreePointServiceImplTest {
+
+    @Test
+    @DisplayName("내역 저장이 실패하면 남은 내역과 잔액을 다시 저장한다")
+    void persistFailure_retried() {
+        // given: 첫 번째 insertAll 이 실패하는 내역 저장소
+        ConcurrentUserPointTable userPointTable = new ConcurrentUserPointTable();
+        FailingOnceRepository pointHistoryRepository = new FailingOnceRepository(new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()));
+        LockFreePointServiceImpl lockFreePointService = new LockFreePointServiceImpl(userPointTable, pointHistoryRepository);
+
+        // when: 충전 2건 후 종료 (재시도 작업까지 처리)
+        lockFreePointService.charge(1L, 1000L);
+        lockFreePointService.charge(1L, 500L);
+        waitUntil(() -> pointHistoryRepository.selectAllByUserId(1L).size() == 2);
+        lockFreePointService.close();
+
+        // then: 실패했던 내역도 순서대로 저장되고 잔액도 저장됨
+        assertThat(pointHistoryRepository.failures.get()).isEqualTo(1);
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+        assertThat(histories).hasSize(2);
+        assertThat(histories.get(0).amount()).isEqualTo(1000L);
+        assertThat(histories.get(1).amount()).isEqualTo(500L);
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(1500L);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        for (int i = 0; i < 200 && !condition.getAsBoolean(); i++) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 번째 insertAll 만 실패하는 내역 저장소
+     */
+    private static final class FailingOnceRepository implements PointHistoryRepository {
+
+        private final PointHistoryRepository delegate;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private FailingOnceRepository(PointHistoryRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void insert(long userId, long amount, TransactionType type, long updateMillis) {
+            delegate.insert(userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void insertAll(long userId, List<Long> amounts, TransactionType type, long updateMillis) {
+            if (failures.compareAndSet(0, 1)) {
+                throw new IllegalStateException("injected history failure");
+            }
+            delegate.insertAll(userId, amounts, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return delegate.selectAllByUserId(userId);
+        }
+
+        @Override
+        public List<PointHistory> selectByUserId(long userId, long afterId, long fromMillis, long toMillis, int limit) {
+            return delegate.selectByUserId(userId, afterId, fromMillis, toMillis, limit);
+        }
+
+        @Override
+        public Iterator<PointHistory> iterateByUserId(long userId) {
+            return delegate.iterateByUserId(userId);
+        }
+
+        @Override
+        public Iterator<PointHistory> iterateAll() {
+            return delegate.iterateAll();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointIdempotencyTest {
+
+    private final PointIdempotency idempotency = new PointIdempotency(new PointIdempotencyProperties(100, Duration.ofHours(1)));
+
+    @Test
+    @DisplayName("같은 키로 다시 들어온 요청은 실행하지 않고 처음 결과를 반환한다")
+    void sameKey_replayed() {
+        // given
+        AtomicInteger charges = new AtomicInteger();
+
+        // when: 같은 키로 두 번 충전
+        UserPoint first = idempotency.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+        UserPoint second = idempotency.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+
+        // then: 충전은 한 번, 두 번째는 첫 결과 그대로
+        assertThat(charges.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(idempotency.stats().executed()).isEqualTo(1L);
+        assertThat(idempotency.stats().size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키라도 사용자가 다르면 따로 실행한다")
+    void sameKey_otherUser_executed() {
+        // given
+        AtomicInteger charges = new AtomicInteger();
+
+        // when
+        idempotency.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+        idempotency.execute(2L, "key-1", "charge:1000", () -> charge(charges));
+
+        // then
+        assertThat(charges.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행한다")
+    void noKey_alwaysExecuted() {
+        // given
+        AtomicInteger charges = new AtomicInteger();
+
+        // when
+        idempotency.execute(1L, null, "charge:1000", () -> charge(charges));
+        idempotency.execute(1L, " ", "charge:1000", () -> charge(charges));
+
+        // then
+        assertThat(charges.get()).isEqualTo(2);
+        assertThat(idempotency.stats().size()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다")
+    void sameKey_differentRequest_throws() {
+        // given
+        AtomicInteger charges = new AtomicInteger();
+        idempotency.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotency.execute(1L, "key-1", "charge:2000", () -> charge(charges)));
+        assertThat(charges.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않으므로 같은 키로 다시 실행된다")
+    void failedRequest_notStored() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when: 첫 시도는 실패
+        assertThrows(IllegalArgumentException.class, () -> idempotency.execute(1L, "key-1", "use:500:0", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("잔액 부족");
+        }));
+        UserPoint retried = idempotency.execute(1L, "key-1", "use:500:0", () -> charge(attempts));
+
+        // then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(retried.point()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행한다")
+    void sameKey_concurrent_executedOnce() throws Exception {
+        // given
+        AtomicInteger charges = new AtomicInteger();
+        int threadCount = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when: 10개 스레드가 같은 키로 동시에 충전
+        List<Future<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                start.await();
+                return idempotency.execute(1L, "key-1", "charge:1000", () -> {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ignored) {
+
+                    }
+                    return charge(charges);
+                });
+            }));
+        }
+        start.countDown();
+
+        // then: 충전은 한 번, 모든 요청이 같은 결과를 받음
+        for (Future<UserPoint> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).point()).isEqualTo(1L);
+        }
+        executorService.shutdown();
+        assertThat(charges.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 결과 수가 최대치를 넘으면 오래된 결과부터 제거된다")
+    void maxSize_evicted() {
+        // given: 최대 2건 보관
+        PointIdempotency small = new PointIdempotency(new PointIdempotencyProperties(2, Duration.ofHours(1)));
+        AtomicInteger charges = new AtomicInteger();
+
+        // when: 키 3개로 충전한 뒤 첫 키로 다시 충전
+        small.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+        small.execute(1L, "key-2", "charge:1000", () -> charge(charges));
+        small.execute(1L, "key-3", "charge:1000", () -> charge(charges));
+        small.execute(1L, "key-1", "charge:1000", () -> charge(charges));
+
+        // then: 제거된 첫 키는 다시 실행됨
+        assertThat(charges.get()).isEqualTo(4);
+        assertThat(small.stats().size()).isLessThanOrEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 키는 예외가 발생한다")
+    void tooLongKey_throws() {
+        // given
+        String key = "k".repeat(PointIdempotency.MAX_KEY_LENGTH + 1);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotency.execute(1L, key, "charge:1000", () -> UserPoint.empty(1L)));
+    }
+
+    // 실행 횟수를 잔액으로 돌려주는 충전
+    private static UserPoint charge(AtomicInteger charges) {
+        return new UserPoint(1L, charges.incrementAndGet(), 0L, 0L);
+    }
+}
@@ -1,15 +1,25 @@
 package io.hhplus.tdd.service;
 
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.MapUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
 import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -20,12 +30,21 @@ class PointServiceConcurrencyTest {
     private PointService pointService;
     private UserPointTable userPointTable;
     private PointHistoryTable pointHistoryTable;
+    private PointHistoryRepository pointHistoryRepository;
 
     @BeforeEach
     void setUp() {
         userPointTable = new UserPointTable();
         pointHistoryTable = new PointHistoryTable();
-        pointService = new PointServiceImpl(userPointTable, pointHistoryTable);
+        pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+        pointService = createPointService(userPointTable, pointHistoryRepository);
+    }
+
+    /**
+     * 같은 동시성 시나리오를 다른 PointService 구현에도 적용할 수 있도록 구현 생성을 분리
+     */
+    PointService createPointService(UserPointTable userPointTable, PointHistoryRepository pointHistoryRepository) {
+        return new PointServiceImpl(userPointTable, pointHistoryRepository, new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -136,4 +155,32 @@ class PointServiceConcurrencyTest {
         UserPoint result = pointService.getUserPoint(userId);
         assertThat(result.point()).isEqualTo(initialPoint + (chargeAmount * 10) - (useAmount * 10));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시성 테스트: hot wallet 에 몰린 충전도 호출자마다 자기 충전까지 반영된 잔액을 받는다")
+    void concurrentCharge_hotWallet() throws Exception {
+        // given: 유저 4L, 30 스레드
+        long userId = 4L;
+        int threadCount = 30;
+        long chargeAmount = 100L;
+
+        // when: 30 스레드가 동시에 100원씩 충전
+        List<Future<UserPoint>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executorService.submit(() -> pointService.charge(userId, chargeAmount)));
+            }
+        }
+
+        // then: 호출자별 결과는 서로 다른 잔액 (100, 200, ..., 3000)
+        List<Long> points = new ArrayList<>();
+        for (Future<UserPoint> result : results) {
+            points.add(result.get().point());
+        }
+        assertThat(points.stream().distinct().count()).isEqualTo(threadCount);
+        assertThat(points.stream().mapToLong(Long::longValue).max().getAsLong()).isEqualTo(chargeAmount * threadCount);
+
+        // then: 최종 잔액
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(chargeAmount * threadCount);
+    }
+}
@@ -1,16 +1,46 @@
 package io.hhplus.tdd.service;
 
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.MapUserLockProvider;
+import io.hhplus.tdd.lock.UserLockAdmission;
+import io.hhplus.tdd.lock.UserLockAdmissionProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
 import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.exception.UserLockUnavailableException;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointVerification;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -21,12 +51,21 @@ class PointServiceTest {
     private PointService pointService;
     private UserPointTable userPointTable;
     private PointHistoryTable pointHistoryTable;
+    private PointHistoryRepository pointHistoryRepository;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         userPointTable = new UserPointTable();
         pointHistoryTable = new PointHistoryTable();
-        pointService = new PointServiceImpl(userPointTable, pointHistoryTable);
+        pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+        meterRegistry = new SimpleMeterRegistry();
+        pointService = new PointServiceImpl(userPointTable, pointHistoryRepository, new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((PointServiceImpl) pointService).close();
     }
 
     @Test
@@ -54,8 +93,8 @@ class PointServiceTest {
         long chargeAmount = 1000L;
         long useAmount = 500L;
         long currentTime = System.currentTimeMillis();
-        pointHistoryTable.insert(userId, chargeAmount, TransactionType.CHARGE, currentTime);
-        pointHistoryTable.insert(userId, useAmount, TransactionType.USE, currentTime);
+        pointHistoryRepository.insert(userId, chargeAmount, TransactionType.CHARGE, currentTime);
+        pointHistoryRepository.insert(userId, useAmount, TransactionType.USE, currentTime);
 
         // when: 유저의 포인트 내역을 조회
         List<PointHistory> result = pointService.getPointHistory(userId);
@@ -210,4 +249,293 @@ class PointServiceTest {
         assertThat(histories.get(0).amount()).isEqualTo(amount);
         assertThat(histories.get(0).type()).isEqualTo(TransactionType.USE);
     }
+
+    @Test
+    @DisplayName("충전 후 조회는 캐시에 저장된 최신 잔액을 반환한다")
+    void getUserPoint_afterCharge_returnsCachedBalance() {
+        // given: 유저 8L의 포인트를 조회해 캐시에 적재
+        long userId = 8L;
+        long chargeAmount = 1000L;
+        pointService.getUserPoint(userId);
+
+        // when: 충전 후 다시 조회
+        pointService.charge(userId, chargeAmount);
+        UserPoint result = pointService.getUserPoint(userId);
+
+        // then: 충전 결과가 바로 조회됨 (write-through)
+        assertThat(result.point()).isEqualTo(chargeAmount);
+    }
+
+    @Test
+    @DisplayName("여러 유저의 포인트를 일괄 충전하고 항목별 결과를 요청 순서대로 반환한다")
+    void chargeAll_success() {
+        // given: 유저 9L(기존 500), 10L(신규)에 대한 충전 요청, 정책1 위반 항목 포함
+        userPointTable.insertOrUpdate(9L, 500L, 0);
+        List<ChargeCommand> commands = List.of(
+                new ChargeCommand(9L, 1000L),
+                new ChargeCommand(10L, 2000L),
+                new ChargeCommand(9L, 1000000L),
+                new ChargeCommand(9L, 300L)
+        );
+
+        // when: 일괄 충전
+        List<ChargeResult> results = pointService.chargeAll(commands);
+
+        // then: 항목별 결과 (성공 항목은 해당 항목까지 반영된 잔액)
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(0).point()).isEqualTo(1500L);
+        assertThat(results.get(1).success()).isTrue();
+        assertThat(results.get(1).point()).isEqualTo(2000L);
+        assertThat(results.get(2).success()).isFalse();
+        assertThat(results.get(2).message()).isEqualTo("포인트를 100만원 이상 충전할 수 없습니다.");
+        assertThat(results.get(3).success()).isTrue();
+        assertThat(results.get(3).point()).isEqualTo(1800L);
+
+        // then: 최종 잔액과 성공 항목의 내역
+        assertThat(pointService.getUserPoint(9L).point()).isEqualTo(1800L);
+        assertThat(pointService.getUserPoint(10L).point()).isEqualTo(2000L);
+        assertThat(pointService.getPointHistory(9L)).hasSize(2);
+        assertThat(pointService.getPointHistory(10L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("close 는 서비스가 만든 일괄 충전 executor 만 종료하고, 주입받은 executor 는 종료하지 않는다")
+    void close_shutsDownOwnedBatchExecutorOnly() {
+        // given: executor 를 직접 만든 서비스와 주입받은 서비스
+        List<ChargeCommand> commands = List.of(new ChargeCommand(13L, 100L), new ChargeCommand(14L, 100L));
+        ExecutorService sharedExecutor = Executors.newFixedThreadPool(2);
+        PointServiceImpl ownedExecutorService = new PointServiceImpl(new ConcurrentUserPointTable(), new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()),
+                new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry), UserLockAdmission.unbounded());
+        PointServiceImpl sharedExecutorService = new PointServiceImpl(new ConcurrentUserPointTable(), new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()),
+                new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry), UserLockAdmission.unbounded(), sharedExecutor);
+        ownedExecutorService.chargeAll(commands);
+
+        // when
+        ownedExecutorService.close();
+        sharedExecutorService.close();
+
+        // then: 직접 만든 executor 는 종료되어 더 받지 않고, 주입받은 executor 는 계속 쓸 수 있다
+        assertThrows(RejectedExecutionException.class, () -> ownedExecutorService.chargeAllAsync(commands));
+        assertThat(sharedExecutor.isShutdown()).isFalse();
+        List<ChargeResult> results = sharedExecutorService.chargeAll(commands);
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(1).success()).isTrue();
+        sharedExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("충전/사용 시 Lock 대기·보유 시간과 정책 거절 사유별 건수를 기록한다")
+    void chargeAndUse_recordsMetrics() {
+        // given: 유저 11L 에 1000 포인트
+        userPointTable.insertOrUpdate(11L, 1000L, 0);
+
+        // when: 충전 성공 1건, 정책2(10000원 이하 결제) 위반 사용 1건
+        pointService.charge(11L, 500L);
+        assertThrows(InsufficientPointException.class, () -> pointService.use(11L, 100L, 5000L));
+
+        // then: operation 별 Lock 지표와 거절 사유 지표
+        assertThat(meterRegistry.get("point.lock.wait").tag("operation", "charge").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.lock.hold").tag("operation", "use").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.table").tag("table", "user_point").tag("operation", "insertOrUpdate").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.policy.rejections").tag("reason", "COST_TOO_LOW").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 합치기(SingleFlight) 실행/합친 건수를 지표로 내보낸다")
+    void loads_exportSingleFlightMetrics() {
+        // given: 유저 12L
+        long userId = 12L;
+
+        // when: 내역을 순서대로 두 번 조회 (진행 중인 조회가 없으므로 매번 실행)
+        pointService.getPointHistory(userId);
+        pointService.getPointHistory(userId);
+
+        // then: point_history 조회 실행 2건, 합친 조회 0건
+        assertThat(meterRegistry.get("point.load.executions").tag("load", "point_history").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("point.load.coalesced").tag("load", "point_history").functionCounter().count()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 이후 시작한 잔액 조회는 쓰기 이전에 시작된 조회에 합쳐지지 않아 이전 잔액을 캐시에 저장하지 않는다")
+    void getUserPoint_afterWrite_notCoalescedWithStaleLoad() throws Exception {
+        // given: 유저 1L 의 첫 조회를 잔액을 읽은 뒤 멈추게 하는 테이블, 1건만 보관하는 캐시
+        CountDownLatch staleLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseStaleLoad = new CountDownLatch(1);
+        AtomicBoolean blockNextLoad = new AtomicBoolean(true);
+        UserPointTable blockingTable = new ConcurrentUserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                UserPoint read = super.selectById(id);
+                if (id == 1L && blockNextLoad.compareAndSet(true, false)) {
+                    staleLoadStarted.countDown();
+                    try {
+                        releaseStaleLoad.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return read;
+            }
+        };
+        PointServiceImpl cachedService = new PointServiceImpl(blockingTable, pointHistoryRepository, new MapUserLockProvider(), new BoundedCache<>(1, Duration.ZERO), new PointMetrics(meterRegistry));
+
+        // when: 잔액 0 을 읽은 조회가 멈춘 사이 충전하고, 다른 유저 충전으로 캐시에서 제거된 뒤 다시 조회
+        CompletableFuture<UserPoint> staleRead = CompletableFuture.supplyAsync(() -> cachedService.getUserPoint(1L));
+        assertThat(staleLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        cachedService.charge(1L, 1000L);
+        cachedService.charge(2L, 100L);
+        CompletableFuture<UserPoint> freshRead = CompletableFuture.supplyAsync(() -> cachedService.getUserPoint(1L));
+        for (int i = 0; i < 500 && !freshRead.isDone() && cachedService.userPointLoadStats().coalesced() == 0; i++) {
+            Thread.sleep(10);
+        }
+        releaseStaleLoad.countDown();
+
+        // then: 쓰기 이후 조회는 따로 실행되어 충전된 잔액을 읽고, 캐시에도 충전된 잔액이 남는다
+        //       (멈췄던 조회도 읽은 이전 잔액 대신 캐시에 저장된 잔액을 반환)
+        assertThat(freshRead.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThat(staleRead.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThat(cachedService.userPointLoadStats().coalesced()).isEqualTo(0L);
+        assertThat(cachedService.getUserPoint(1L).point()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("같은 유저에게 몰린 충전은 Lock 을 잡은 스레드가 모아서 잔액을 한 번에 저장한다 (group commit)")
+    void charge_burst_groupCommit() throws Exception {
+        // given: 잔액 저장 횟수를 세고, 첫 저장은 나머지 충전이 모두 Lock 을 기다릴 때까지 멈추는 테이블
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        UserPointTable countingTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount, long cost) {
+                if (writes.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.insertOrUpdate(id, amount, cost);
+            }
+        };
+        MapUserLockProvider lockProvider = new MapUserLockProvider();
+        ReentrantLock userLock = (ReentrantLock) lockProvider.getLock(12L);
+        PointService groupCommitService = new PointServiceImpl(countingTable, pointHistoryRepository, lockProvider, new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry));
+        int threadCount = 20;
+
+        // when: 첫 충전이 Lock 을 잡고 저장하는 동안 나머지 19 스레드가 같은 유저에게 충전 (1건은 정책1 위반)
+        List<Future<UserPoint>> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            results.add(executorService.submit(() -> groupCommitService.charge(12L, 100L)));
+            assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threadCount; i++) {
+                long amount = i == 1 ? 1000000L : 100L;
+                results.add(executorService.submit(() -> groupCommitService.charge(12L, amount)));
+            }
+            // 대기열에 넣은 뒤 Lock 을 기다리므로, Lock 대기 수가 19 이면 모든 충전이 대기열에 있다.
+            for (int i = 0; i < 500 && userLock.getQueueLength() < threadCount - 1; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(userLock.getQueueLength()).isEqualTo(threadCount - 1);
+            releaseFirstWrite.countDown();
+        }
+
+        // then: 정책 위반 건만 실패하고, 나머지는 각자의 결과를 받는다
+        assertThat(results.get(0).get().point()).isEqualTo(100L);
+        assertThrows(Exception.class, () -> results.get(1).get());
+        for (int i = 2; i < threadCount; i++) {
+            assertThat(results.get(i).get().point()).isBetween(200L, 1900L);
+        }
+
+        // then: 잔액과 내역은 정확하고, 잔액 저장은 첫 충전 1번 + 대기하던 충전을 모은 1번
+        assertThat(groupCommitService.getUserPoint(12L).point()).isEqualTo(1900L);
+        assertThat(groupCommitService.getPointHistory(12L)).hasSize(threadCount - 1);
+        assertThat(writes.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("충전/사용 후 내역 집계와 잔액 검증 결과를 조회한다")
+    void getPointSummary_andVerify() {
+        // given: 집계를 유지하는 내역 저장소
+        AggregatingPointHistoryRepository aggregatingRepository = new AggregatingPointHistoryRepository(new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()));
+        PointService summaryService = new PointServiceImpl(new ConcurrentUserPointTable(), aggregatingRepository, new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry));
+        long userId = 1L;
+
+        // when
+        summaryService.charge(userId, 10000L);
+        summaryService.charge(userId, 5000L);
+        summaryService.use(userId, 3000L, 20000L);
+
+        // then
+        PointSummary summary = summaryService.getPointSummary(userId);
+        assertThat(summary.totalCharged()).isEqualTo(15000L);
+        assertThat(summary.totalUsed()).isEqualTo(3000L);
+        assertThat(summary.count()).isEqualTo(3L);
+        assertThat(summary.firstUpdateMillis()).isLessThanOrEqualTo(summary.lastUpdateMillis());
+
+        PointVerification verification = summaryService.verify(userId);
+        assertThat(verification.consistent()).isTrue();
+        assertThat(verification.point()).isEqualTo(12000L);
+        assertThat(verification.expectedPoint()).isEqualTo(12000L);
+    }
+
+    @Test
+    @DisplayName("내역 없이 바뀐 잔액은 검증에서 불일치로 나온다")
+    void verify_detectsMismatch() {
+        // given: 내역 없이 테이블에 직접 저장된 잔액
+        ConcurrentUserPointTable table = new ConcurrentUserPointTable();
+        table.insertOrUpdate(1L, 5000L, 0);
+        PointService summaryService = new PointServiceImpl(table, new AggregatingPointHistoryRepository(new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable())),
+                new MapUserLockProvider(), new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry));
+
+        // when
+        PointVerification verification = summaryService.verify(1L);
+
+        // then
+        assertThat(verification.consistent()).isFalse();
+        assertThat(verification.point()).isEqualTo(5000L);
+        assertThat(verification.expectedPoint()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Lock 을 대기 시간 안에 얻지 못한 충전은 거절되고 잔액/내역에 반영되지 않는다")
+    void charge_lockTimeout_rejected() throws Exception {
+        // given: 충전 대기 시간 50ms, 다른 스레드가 유저 1L 의 Lock 을 잡고 있음
+        MapUserLockProvider lockProvider = new MapUserLockProvider();
+        UserLockAdmission admission = new UserLockAdmission(new UserLockAdmissionProperties(
+                Duration.ofMillis(50), Duration.ofMillis(50), Duration.ofMillis(50), Duration.ofMillis(50), 10));
+        PointService boundedService = new PointServiceImpl(new ConcurrentUserPointTable(), new IndexedPointHistoryRepository(new ConcurrentPointHistoryTable()),
+                lockProvider, new BoundedCache<>(1000, Duration.ZERO), new PointMetrics(meterRegistry), admission);
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> holder = executorService.submit(() -> {
+            Lock lock = lockProvider.getLock(1L);
+            lock.lock();
+            try {
+                held.countDown();
+                release.await();
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        });
+        held.await();
+
+        // when
+        UserLockUnavailableException exception = assertThrows(UserLockUnavailableException.class,
+                () -> boundedService.charge(1L, 1000L));
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 거절된 충전은 이후에도 반영되지 않음
+        assertThat(exception.getReason()).isEqualTo(UserLockUnavailableException.Reason.TIMEOUT);
+        boundedService.charge(1L, 500L);
+        assertThat(boundedService.getUserPoint(1L).point()).isEqualTo(500L);
+        assertThat(boundedService.getPointHistory(1L)).hasSize(1);
+        assertThat(meterRegistry.get("point.lock.rejections").tag("operation", "charge").tag("reason", "TIMEOUT").counter().count()).isEqualTo(1.0);
+    }
 }
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.InsufficientPointException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactivePointServiceTest {
+
+    private UserPointTable userPointTable;
+    private Scheduler scheduler;
+    private ReactivePointServiceImpl reactivePointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        scheduler = Schedulers.newBoundedElastic(16, 1000, "point-table-test");
+        reactivePointService = new ReactivePointServiceImpl(
+                userPointTable,
+                new IndexedPointHistoryRepository(new PointHistoryTable()),
+                new BoundedCache<>(1000, Duration.ZERO),
+                scheduler
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("포인트를 충전하고 잔액과 내역을 조회한다")
+    void charge_thenRead() {
+        // when: 1000 포인트 충전
+        StepVerifier.create(reactivePointService.charge(1L, 1000L))
+                .assertNext(userPoint -> assertThat(userPoint.point()).isEqualTo(1000L))
+                .verifyComplete();
+
+        // then: 잔액과 내역
+        StepVerifier.create(reactivePointService.getUserPoint(1L))
+                .assertNext(userPoint -> assertThat(userPoint.point()).isEqualTo(1000L))
+                .verifyComplete();
+        StepVerifier.create(reactivePointService.getPointHistory(1L))
+                .assertNext(history -> assertThat(history.type()).isEqualTo(TransactionType.CHARGE))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("정책 위반 시 InsufficientPointException 으로 종료된다")
+    void use_policyViolation_errors() {
+        // given: 잔액 1000
+        userPointTable.insertOrUpdate(2L, 1000L, 0);
+
+        // when & then: 정책2(10000원 이하 결제) 위반
+        StepVerifier.create(reactivePointService.use(2L, 100L, 5000L))
+                .expectError(InsufficientPointException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("같은 사용자에 대한 동시 충전은 직렬 큐로 순서대로 반영된다")
+    void concurrentCharge_sameUser() {
+        // when: 같은 사용자에게 5건 동시 충전
+        Flux<UserPoint> charges = Flux.range(0, 5)
+                .flatMap(i -> reactivePointService.charge(3L, 100L));
+
+        // then: 모든 충전 반영
+        StepVerifier.create(charges)
+                .expectNextCount(5)
+                .verifyComplete();
+        StepVerifier.create(reactivePointService.getUserPoint(3L))
+                .assertNext(userPoint -> assertThat(userPoint.point()).isEqualTo(500L))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,161 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.BoundedCache;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.lock.MapUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.ChargeCommand;
+import io.hhplus.tdd.point.ChargeResult;
+import io.hhplus.tdd.point.PointHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedPointServiceTest {
+
+    private static final int SHARDS = 4;
+
+    private ShardedPointServiceImpl shardedPointService;
+
+    @BeforeEach
+    void setUp() {
+        List<PointService> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(new PointServiceImpl(
+                    new PrimitiveUserPointTable(),
+                    new IndexedPointHistoryRepository(new PointHistoryTable()),
+                    new MapUserLockProvider(),
+                    new BoundedCache<>(1000, Duration.ZERO),
+                    new PointMetrics(new SimpleMeterRegistry())
+            ));
+        }
+        shardedPointService = new ShardedPointServiceImpl(shards);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedPointService.close();
+    }
+
+    @Test
+    @DisplayName("사용자는 항상 같은 shard 로 가고, 여러 사용자는 모든 shard 에 나뉜다")
+    void routing_isStableAndSpread() {
+        // given
+        PointShardRouter router = new PointShardRouter(SHARDS);
+        Set<Integer> usedShards = new HashSet<>();
+
+        // when
+        for (long userId = 1; userId <= 100; userId++) {
+            int shard = router.shardOf(userId);
+            assertThat(router.shardOf(userId)).isEqualTo(shard);
+            assertThat(shard).isBetween(0, SHARDS - 1);
+            usedShards.add(shard);
+        }
+
+        // then
+        assertThat(usedShards).hasSize(SHARDS);
+        assertThatThrownBy(() -> new PointShardRouter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("충전/사용/내역은 사용자를 담당하는 shard 에만 저장된다")
+    void chargeAndUse_storedInOwningShard() {
+        // given
+        long userId = 7L;
+
+        // when
+        shardedPointService.charge(userId, 1000L);
+        shardedPointService.use(userId, 300L, 20_000L);
+
+        // then
+        assertThat(shardedPointService.getUserPoint(userId).point()).isEqualTo(700L);
+        assertThat(shardedPointService.getPointHistory(userId)).hasSize(2);
+        List<Integer> historyCounts = shardedPointService.scatterGather(shard -> shard.getPointHistory(userId).size());
+        assertThat(historyCounts).hasSize(SHARDS);
+        assertThat(historyCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+        assertThat(shardedPointService.shardOf(userId).getUserPoint(userId).point()).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("일괄 충전은 shard 별로 나눠 처리하고 결과를 요청 순서대로 돌려준다")
+    void chargeAll_keepsRequestOrder() {
+        // given
+        List<ChargeCommand> commands = new ArrayList<>();
+        for (long userId = 1; userId <= 8; userId++) {
+            commands.add(new ChargeCommand(userId, userId * 10));
+        }
+        commands.add(new ChargeCommand(1L, 5L));
+        commands.add(new ChargeCommand(2L, 1_000_000L));
+
+        // when
+        List<ChargeResult> results = shardedPointService.chargeAll(commands);
+
+        // then
+        assertThat(results).hasSize(commands.size());
+        for (int i = 0; i < 8; i++) {
+            assertThat(results.get(i).userId()).isEqualTo(commands.get(i).userId());
+            assertThat(results.get(i).success()).isTrue();
+        }
+        assertThat(results.get(8).point()).isEqualTo(15L);
+        assertThat(results.get(9).success()).isFalse();
+        assertThat(shardedPointService.getUserPoint(1L).point()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("전체 내역 조회는 모든 shard 의 내역을 이어서 읽는다")
+    void iterateAllPointHistory_coversAllShards() {
+        // given
+        List<ChargeCommand> commands = new ArrayList<>();
+        for (long userId = 1; userId <= 16; userId++) {
+            commands.add(new ChargeCommand(userId, 100L));
+        }
+        shardedPointService.chargeAll(commands);
+
+        // when
+        Set<Long> userIds = new HashSet<>();
+        shardedPointService.iterateAllPointHistory().forEachRemaining(pointHistory -> userIds.add(pointHistory.userId()));
+
+        // then
+        assertThat(userIds).hasSize(16);
+    }
+
+    @Test
+    @DisplayName("여러 shard 의 사용자를 동시에 충전해도 잔액과 내역이 정확하다")
+    void concurrentCharge_acrossShards() {
+        // given
+        int userCount = 8;
+        int chargesPerUser = 5;
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            for (long userId = 1; userId <= userCount; userId++) {
+                long id = userId;
+                for (int i = 0; i < chargesPerUser; i++) {
+                    executorService.submit(() -> shardedPointService.charge(id, 10L));
+                }
+            }
+        }
+
+        // then
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertThat(shardedPointService.getUserPoint(userId).point()).isEqualTo(10L * chargesPerUser);
+            List<PointHistory> histories = shardedPointService.getPointHistory(userId);
+            assertThat(histories).hasSize(chargesPerUser);
+        }
+    }
+}